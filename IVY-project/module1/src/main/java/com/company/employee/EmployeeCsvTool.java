@@ -0,0 +1,422 @@
+package com.company.employee;
+
+import com.company.employee.dao.BatchSaveResult;
+import com.company.employee.model.Employee;
+import com.company.employee.service.EmployeeService;
+import com.company.employee.util.DatabaseConnection;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bulk CSV import and export for the employees table.
+ *
+ * Import streams the file on the calling thread and hands chunks of lines to a worker pool
+ * through a bounded queue, so a slow database pushes back on the reader instead of buffering
+ * the whole file. Each worker parses its chunk, then validates and inserts it with
+ * {@link EmployeeService#createEmployees}, which applies the usual validation rules and one
+ * batched insert per chunk. Export streams rows from a database cursor straight to the file.
+ * Both log throughput and rejected rows periodically while they run.
+ *
+ * Columns are matched by header name: first_name, last_name, email, phone_number, hire_date
+ * (yyyy-MM-dd), department, salary; an id column is written on export and ignored on import.
+ * Rows without a first name, last name, valid email, hire date or salary are rejected.
+ * Quoted fields may contain commas and doubled quotes but not line breaks.
+ *
+ * Usage: EmployeeCsvTool import &lt;file&gt; | export &lt;file&gt; [department]
+ */
+public class EmployeeCsvTool {
+    
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeCsvTool.class);
+    
+    private static final String[] COLUMNS =
+        {"id", "first_name", "last_name", "email", "phone_number", "hire_date", "department", "salary"};
+    
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_LOGGED_REJECTIONS = 20;
+    private static final long PROGRESS_INTERVAL_SECONDS = 5;
+    
+    private final EmployeeService employeeService;
+    private final int workers;
+    
+    public EmployeeCsvTool() {
+        this(new EmployeeService(),
+             Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(),
+                                  DatabaseConnection.getMaximumPoolSize() - 1)));
+    }
+    
+    /**
+     * @param employeeService Service used to validate and insert rows
+     * @param workers Number of parse/insert workers; each holds one connection while inserting
+     */
+    public EmployeeCsvTool(EmployeeService employeeService, int workers) {
+        if (workers <= 0) {
+            throw new IllegalArgumentException("Worker count must be positive");
+        }
+        this.employeeService = employeeService;
+        this.workers = workers;
+    }
+    
+    /**
+     * Import employees from a CSV file with a header row
+     * @param file CSV file
+     * @return Counts of rows read, imported and rejected
+     * @throws IOException if the file cannot be read
+     */
+    public Report importCsv(Path file) throws IOException {
+        Report report = new Report("Import");
+        BlockingQueue<List<Line>> queue = new ArrayBlockingQueue<>(workers * 2);
+        List<Line> poison = new ArrayList<>();
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        ScheduledExecutorService progress = startProgress(report);
+        
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (header == null) {
+                return report;
+            }
+            Map<String, Integer> columns = columnIndexes(parseLine(stripBom(header)));
+            for (String required : new String[] {"first_name", "last_name", "email", "hire_date", "salary"}) {
+                if (!columns.containsKey(required)) {
+                    throw new IllegalArgumentException("CSV header is missing column: " + required);
+                }
+            }
+            
+            List<Future<?>> results = new ArrayList<>(workers);
+            for (int i = 0; i < workers; i++) {
+                results.add(pool.submit(() -> {
+                    try {
+                        List<Line> chunk;
+                        while ((chunk = queue.take()) != poison) {
+                            importChunk(chunk, columns, report);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+            }
+            
+            List<Line> chunk = new ArrayList<>(CHUNK_SIZE);
+            String text;
+            long lineNumber = 1;
+            while ((text = reader.readLine()) != null) {
+                lineNumber++;
+                if (text.trim().isEmpty()) {
+                    continue;
+                }
+                chunk.add(new Line(lineNumber, text));
+                report.read.incrementAndGet();
+                if (chunk.size() == CHUNK_SIZE) {
+                    queue.put(chunk);
+                    chunk = new ArrayList<>(CHUNK_SIZE);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                queue.put(chunk);
+            }
+            for (int i = 0; i < workers; i++) {
+                queue.put(poison);
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Import interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Import worker failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+            progress.shutdownNow();
+        }
+        
+        logger.info(report.toString());
+        return report;
+    }
+    
+    private void importChunk(List<Line> chunk, Map<String, Integer> columns, Report report) {
+        List<Employee> employees = new ArrayList<>(chunk.size());
+        List<Long> lineNumbers = new ArrayList<>(chunk.size());
+        for (Line line : chunk) {
+            try {
+                employees.add(toEmployee(parseLine(line.text), columns));
+                lineNumbers.add(line.number);
+            } catch (IllegalArgumentException e) {
+                reject(report, line.number, e.getMessage());
+            }
+        }
+        if (employees.isEmpty()) {
+            return;
+        }
+        
+        try {
+            BatchSaveResult result = employeeService.createEmployees(employees);
+            report.imported.addAndGet(result.getSavedCount());
+            for (BatchSaveResult.Failure failure : result.getFailures()) {
+                reject(report, lineNumbers.get(failure.getIndex()), failure.getReason());
+            }
+        } catch (RuntimeException e) {
+            logger.error("Error importing lines {}-{}: {}", lineNumbers.get(0),
+                    lineNumbers.get(lineNumbers.size() - 1), e.getMessage(), e);
+            for (Long lineNumber : lineNumbers) {
+                reject(report, lineNumber, e.getMessage());
+            }
+        }
+    }
+    
+    private void reject(Report report, long lineNumber, String reason) {
+        if (report.rejected.incrementAndGet() <= MAX_LOGGED_REJECTIONS) {
+            logger.warn("Rejected line {}: {}", lineNumber, reason);
+        }
+    }
+    
+    /**
+     * Export employees to a CSV file with a header row, in (last name, first name, ID) order
+     * @param file Target file, overwritten if it exists
+     * @param department Department to export, or null for all employees
+     * @return Count of rows written
+     * @throws IOException if the file cannot be written
+     */
+    public Report exportCsv(Path file, String department) throws IOException {
+        Report report = new Report("Export");
+        ScheduledExecutorService progress = startProgress(report);
+        
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+             Stream<Employee> employees = department == null
+                     ? employeeService.streamAllEmployees()
+                     : employeeService.streamEmployeesByDepartment(department)) {
+            
+            writer.write(String.join(",", COLUMNS));
+            writer.newLine();
+            
+            StringBuilder row = new StringBuilder(256);
+            Iterator<Employee> it = employees.iterator();
+            while (it.hasNext()) {
+                Employee employee = it.next();
+                row.setLength(0);
+                appendField(row, employee.getId());
+                appendField(row, employee.getFirstName());
+                appendField(row, employee.getLastName());
+                appendField(row, employee.getEmail());
+                appendField(row, employee.getPhoneNumber());
+                appendField(row, employee.getHireDate());
+                appendField(row, employee.getDepartment());
+                appendField(row, employee.getSalary());
+                row.setLength(row.length() - 1);
+                writer.write(row.toString());
+                writer.newLine();
+                report.read.incrementAndGet();
+                report.exported.incrementAndGet();
+            }
+        } finally {
+            progress.shutdownNow();
+        }
+        
+        logger.info(report.toString());
+        return report;
+    }
+    
+    private ScheduledExecutorService startProgress(Report report) {
+        ScheduledExecutorService progress = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "EmployeeCsvTool-progress");
+            thread.setDaemon(true);
+            return thread;
+        });
+        progress.scheduleAtFixedRate(() -> logger.info(report.toString()),
+                PROGRESS_INTERVAL_SECONDS, PROGRESS_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        return progress;
+    }
+    
+    private static Employee toEmployee(List<String> fields, Map<String, Integer> columns) {
+        Employee employee = new Employee();
+        employee.setFirstName(field(fields, columns, "first_name"));
+        employee.setLastName(field(fields, columns, "last_name"));
+        employee.setEmail(field(fields, columns, "email"));
+        employee.setPhoneNumber(field(fields, columns, "phone_number"));
+        employee.setDepartment(field(fields, columns, "department"));
+        
+        // The employees table requires both; reject here rather than failing inside the DAO
+        String hireDate = field(fields, columns, "hire_date");
+        if (hireDate == null) {
+            throw new IllegalArgumentException("Hire date is required");
+        }
+        try {
+            employee.setHireDate(LocalDate.parse(hireDate));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid hire date (expected yyyy-MM-dd): " + hireDate);
+        }
+        String salary = field(fields, columns, "salary");
+        if (salary == null) {
+            throw new IllegalArgumentException("Salary is required");
+        }
+        try {
+            employee.setSalary(Double.valueOf(salary));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid salary: " + salary);
+        }
+        return employee;
+    }
+    
+    private static String field(List<String> fields, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+    
+    private static Map<String, Integer> columnIndexes(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        return columns;
+    }
+    
+    private static String stripBom(String line) {
+        return line.startsWith("\uFEFF") ? line.substring(1) : line;
+    }
+    
+    /** Split one CSV record; quoted fields may contain commas and "" escapes */
+    static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+    
+    private static void appendField(StringBuilder row, Object value) {
+        if (value != null) {
+            String text = value.toString();
+            if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+                    || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+                row.append('"').append(text.replace("\"", "\"\"")).append('"');
+            } else {
+                row.append(text);
+            }
+        }
+        row.append(',');
+    }
+    
+    private static final class Line {
+        final long number;
+        final String text;
+        
+        Line(long number, String text) {
+            this.number = number;
+            this.text = text;
+        }
+    }
+    
+    /**
+     * Running counts for an import or export; safe to read while the transfer is in progress
+     */
+    public static class Report {
+        private final String operation;
+        private final long startNanos = System.nanoTime();
+        private final AtomicLong read = new AtomicLong();
+        private final AtomicLong imported = new AtomicLong();
+        private final AtomicLong exported = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        
+        Report(String operation) {
+            this.operation = operation;
+        }
+        
+        public long getRowsRead() { return read.get(); }
+        public long getImported() { return imported.get(); }
+        public long getExported() { return exported.get(); }
+        public long getRejected() { return rejected.get(); }
+        
+        public double getElapsedSeconds() {
+            return (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        }
+        
+        public double getRowsPerSecond() {
+            double elapsed = getElapsedSeconds();
+            return elapsed > 0 ? read.get() / elapsed : 0.0;
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("%s - Rows: %d, Imported: %d, Exported: %d, Rejected: %d, " +
+                               "Elapsed: %.1fs, Throughput: %.0f rows/s",
+                    operation, getRowsRead(), getImported(), getExported(), getRejected(),
+                    getElapsedSeconds(), getRowsPerSecond());
+        }
+    }
+    
+    public static void main(String[] args) {
+        if (args.length < 2 || !("import".equals(args[0]) || "export".equals(args[0]))) {
+            System.err.println("Usage: EmployeeCsvTool import <file> | export <file> [department]");
+            System.exit(2);
+        }
+        
+        try {
+            EmployeeCsvTool tool = new EmployeeCsvTool();
+            Path file = Paths.get(args[1]);
+            Report report = "import".equals(args[0])
+                    ? tool.importCsv(file)
+                    : tool.exportCsv(file, args.length > 2 ? args[2] : null);
+            System.out.println(report);
+        } catch (Exception e) {
+            System.err.println("Error in employee CSV " + args[0] + ": " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            DatabaseConnection.closeDataSource();
+        }
+    }
+}
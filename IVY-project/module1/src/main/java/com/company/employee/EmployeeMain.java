@@ -12,9 +12,14 @@ public class EmployeeMain {
     public static void main(String[] args) {
         System.out.println("=== Employee Management System ===");
         
+        // Warm up the connection pool while the rest of the application initializes
+        DatabaseConnection.initializeAsync();
+        
         EmployeeService employeeService = new EmployeeService();
         
         try {
+            DatabaseConnection.getReadiness().join();
+            
             // Display connection pool info
             System.out.println("Database Connection: " + DatabaseConnection.getPoolInfo());
             
@@ -0,0 +1,86 @@
+package com.company.employee.dao;
+
+import com.company.employee.model.Employee;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of a bulk insert: how many rows were saved and which input rows
+ * were rejected.
+ */
+public class BatchSaveResult {
+    
+    private int savedCount;
+    private final List<Failure> failures = new ArrayList<>();
+    
+    public int getSavedCount() { return savedCount; }
+    
+    public List<Failure> getFailures() { return Collections.unmodifiableList(failures); }
+    
+    public boolean hasFailures() { return !failures.isEmpty(); }
+    
+    void addSaved(int count) {
+        savedCount += count;
+    }
+    
+    void addFailure(int index, Employee employee, String reason) {
+        failures.add(new Failure(index, employee, reason));
+    }
+    
+    /**
+     * Merge another result into this one, translating its row indexes
+     * @param other Result to merge
+     * @param positions Position in this result's input of each row of the other result's input
+     */
+    public void merge(BatchSaveResult other, List<Integer> positions) {
+        savedCount += other.savedCount;
+        for (Failure failure : other.failures) {
+            failures.add(new Failure(positions.get(failure.getIndex()), failure.getEmployee(), failure.getReason()));
+        }
+        failures.sort((a, b) -> Integer.compare(a.getIndex(), b.getIndex()));
+    }
+    
+    /**
+     * Record a row rejected before reaching the database (e.g. validation)
+     * @param index Position of the row in the input
+     * @param employee Rejected employee
+     * @param reason Why the row was rejected
+     */
+    public void reject(int index, Employee employee, String reason) {
+        addFailure(index, employee, reason);
+    }
+    
+    @Override
+    public String toString() {
+        return "BatchSaveResult{saved=" + savedCount + ", failed=" + failures.size() + '}';
+    }
+    
+    /**
+     * A single rejected row
+     */
+    public static class Failure {
+        private final int index;
+        private final Employee employee;
+        private final String reason;
+        
+        Failure(int index, Employee employee, String reason) {
+            this.index = index;
+            this.employee = employee;
+            this.reason = reason;
+        }
+        
+        /** @return Position of the row in the submitted collection */
+        public int getIndex() { return index; }
+        
+        public Employee getEmployee() { return employee; }
+        
+        public String getReason() { return reason; }
+        
+        @Override
+        public String toString() {
+            return "Failure{index=" + index + ", employee=" + employee + ", reason='" + reason + "'}";
+        }
+    }
+}
@@ -0,0 +1,372 @@
+package com.company.employee.dao;
+
+import com.company.employee.model.Employee;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Read-through cache for {@link EmployeeDAO#findById(Long)} in front of another DAO.
+ *
+ * Entries expire after a fixed time-to-live and the cache holds at most
+ * {@code maxSize} employees. When full, a few entries are sampled and the one
+ * with the fewest hits (the least recently used among equals) is evicted, so
+ * frequently read employees survive a burst of one-off lookups. Writes through
+ * this DAO invalidate the affected IDs; all other queries go straight to the delegate.
+ *
+ * Cache hits take no lock. Only inserting loaded employees, eviction and
+ * invalidation are serialized.
+ *
+ * Employees are copied on the way in and out, so callers that modify a returned
+ * employee never change the cached one.
+ */
+public class CachingEmployeeDAO extends ForwardingEmployeeDAO {
+    
+    private static final Logger logger = LoggerFactory.getLogger(CachingEmployeeDAO.class);
+    
+    private static final int DEFAULT_MAX_SIZE = 10_000;
+    private static final long DEFAULT_TTL_SECONDS = 300;
+    private static final int EVICTION_SAMPLE_SIZE = 8;
+    
+    private final int maxSize;
+    private final long ttlNanos;
+    
+    private final ConcurrentHashMap<Long, CacheEntry> entries = new ConcurrentHashMap<>();
+    
+    // Guards inserts, eviction and invalidation; reads never take it
+    private final Object writeLock = new Object();
+    
+    // Bumped on every write; a load that raced with a write is not cached
+    private volatile long writeGeneration;
+    
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+    
+    public CachingEmployeeDAO(EmployeeDAO delegate) {
+        this(delegate, DEFAULT_MAX_SIZE, DEFAULT_TTL_SECONDS, TimeUnit.SECONDS);
+    }
+    
+    public CachingEmployeeDAO(EmployeeDAO delegate, int maxSize, long ttl, TimeUnit unit) {
+        super(delegate);
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+        if (ttl <= 0) {
+            throw new IllegalArgumentException("Cache TTL must be positive");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = unit.toNanos(ttl);
+    }
+    
+    @Override
+    public Employee findById(Long id) {
+        if (id == null) {
+            return delegate.findById(null);
+        }
+        
+        CacheEntry entry = entries.get(id);
+        if (entry != null) {
+            long now = System.nanoTime();
+            if (entry.expiresAt - now > 0) {
+                entry.recordHit(now);
+                hits.incrementAndGet();
+                return new Employee(entry.employee);
+            }
+            expire(id, entry);
+        }
+        long generation = writeGeneration;
+        
+        misses.incrementAndGet();
+        Employee employee = delegate.findById(id);
+        if (employee != null) {
+            synchronized (writeLock) {
+                if (generation == writeGeneration) {
+                    cache(employee, System.nanoTime() + ttlNanos);
+                }
+            }
+        }
+        return employee;
+    }
+    
+    /**
+     * Serve cached employees directly and load only the misses with one delegate call
+     */
+    @Override
+    public Map<Long, Employee> findByIds(Collection<Long> ids) {
+        Map<Long, Employee> result = new LinkedHashMap<>();
+        if (ids == null || ids.isEmpty()) {
+            return result;
+        }
+        
+        Set<Long> distinct = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (id != null) {
+                distinct.add(id);
+            }
+        }
+        
+        Map<Long, Employee> cached = new LinkedHashMap<>();
+        List<Long> missing = new ArrayList<>();
+        long now = System.nanoTime();
+        for (Long id : distinct) {
+            CacheEntry entry = entries.get(id);
+            if (entry != null && entry.expiresAt - now > 0) {
+                entry.recordHit(now);
+                cached.put(id, new Employee(entry.employee));
+            } else {
+                if (entry != null) {
+                    expire(id, entry);
+                }
+                missing.add(id);
+            }
+        }
+        long generation = writeGeneration;
+        hits.addAndGet(cached.size());
+        misses.addAndGet(missing.size());
+        
+        Map<Long, Employee> loaded = missing.isEmpty()
+                ? new LinkedHashMap<>()
+                : delegate.findByIds(missing);
+        if (!loaded.isEmpty()) {
+            synchronized (writeLock) {
+                if (generation == writeGeneration) {
+                    long expiresAt = System.nanoTime() + ttlNanos;
+                    for (Employee employee : loaded.values()) {
+                        cache(employee, expiresAt);
+                    }
+                }
+            }
+        }
+        
+        for (Long id : distinct) {
+            Employee employee = cached.containsKey(id) ? cached.get(id) : loaded.get(id);
+            if (employee != null) {
+                result.put(id, employee);
+            }
+        }
+        return result;
+    }
+    
+    /** Drop an expired entry unless it was already replaced */
+    private void expire(Long id, CacheEntry entry) {
+        if (entries.remove(id, entry)) {
+            expirations.incrementAndGet();
+        }
+    }
+    
+    /** Insert a copy of a loaded employee, evicting first if full. Caller holds the write lock. */
+    private void cache(Employee employee, long expiresAt) {
+        if (!entries.containsKey(employee.getId()) && entries.size() >= maxSize) {
+            evictOne();
+        }
+        entries.put(employee.getId(), new CacheEntry(new Employee(employee), expiresAt));
+    }
+    
+    /**
+     * Evict an expired entry, or the least frequently hit of a few sampled entries
+     * (the least recently used among equals). Caller holds the write lock.
+     */
+    private void evictOne() {
+        Iterator<Map.Entry<Long, CacheEntry>> it = entries.entrySet().iterator();
+        Long victim = null;
+        CacheEntry victimEntry = null;
+        long now = System.nanoTime();
+        for (int i = 0; i < EVICTION_SAMPLE_SIZE && it.hasNext(); i++) {
+            Map.Entry<Long, CacheEntry> candidate = it.next();
+            CacheEntry entry = candidate.getValue();
+            if (entry.expiresAt - now <= 0) {
+                victim = candidate.getKey();
+                break;
+            }
+            if (victimEntry == null || entry.hits < victimEntry.hits
+                    || (entry.hits == victimEntry.hits && entry.lastAccess - victimEntry.lastAccess < 0)) {
+                victim = candidate.getKey();
+                victimEntry = entry;
+            }
+        }
+        if (victim != null) {
+            entries.remove(victim);
+            evictions.incrementAndGet();
+        }
+    }
+    
+    @Override
+    public Long save(Employee employee) {
+        try {
+            return delegate.save(employee);
+        } finally {
+            invalidate(employee != null ? employee.getId() : null);
+        }
+    }
+    
+    @Override
+    public BatchSaveResult saveAll(Collection<Employee> employees) {
+        try {
+            return delegate.saveAll(employees);
+        } finally {
+            invalidateAll(employees);
+        }
+    }
+    
+    @Override
+    public BatchSaveResult saveAll(Collection<Employee> employees, int batchSize) {
+        try {
+            return delegate.saveAll(employees, batchSize);
+        } finally {
+            invalidateAll(employees);
+        }
+    }
+    
+    @Override
+    public boolean update(Employee employee) {
+        try {
+            return delegate.update(employee);
+        } finally {
+            invalidate(employee != null ? employee.getId() : null);
+        }
+    }
+    
+    @Override
+    public int adjustSalary(Long id, double factor) {
+        try {
+            return delegate.adjustSalary(id, factor);
+        } finally {
+            invalidate(id);
+        }
+    }
+    
+    @Override
+    public int adjustSalaryByDepartment(String department, double factor) {
+        try {
+            return delegate.adjustSalaryByDepartment(department, factor);
+        } finally {
+            invalidateAll();
+        }
+    }
+    
+    @Override
+    public boolean delete(Long id) {
+        try {
+            return delegate.delete(id);
+        } finally {
+            invalidate(id);
+        }
+    }
+    
+    /**
+     * Drop a single employee from the cache
+     * @param id Employee ID, ignored if null
+     */
+    public void invalidate(Long id) {
+        synchronized (writeLock) {
+            writeGeneration++;
+            if (id != null) {
+                entries.remove(id);
+            }
+        }
+    }
+    
+    /**
+     * Drop every cached employee, e.g. after the table was changed outside this DAO
+     */
+    public void invalidateAll() {
+        synchronized (writeLock) {
+            writeGeneration++;
+            entries.clear();
+        }
+        logger.debug("Employee cache cleared");
+    }
+    
+    private void invalidateAll(Collection<Employee> employees) {
+        if (employees == null) {
+            return;
+        }
+        synchronized (writeLock) {
+            writeGeneration++;
+            for (Employee employee : employees) {
+                if (employee != null && employee.getId() != null) {
+                    entries.remove(employee.getId());
+                }
+            }
+        }
+    }
+    
+    /**
+     * Get the number of cached employees
+     * @return Current cache size
+     */
+    public int size() {
+        return entries.size();
+    }
+    
+    public long getHitCount() {
+        return hits.get();
+    }
+    
+    public long getMissCount() {
+        return misses.get();
+    }
+    
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+    
+    public long getExpirationCount() {
+        return expirations.get();
+    }
+    
+    /**
+     * Get the fraction of lookups served from the cache
+     * @return Hit rate between 0.0 and 1.0, or 0.0 before any lookup
+     */
+    public double getHitRate() {
+        long h = hits.get();
+        long total = h + misses.get();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+    
+    /**
+     * Get cache statistics as a string
+     * @return Size, hit/miss counts, hit rate, evictions and expirations
+     */
+    public String getStats() {
+        return String.format("Employee cache - Size: %d/%d, Hits: %d, Misses: %d, Hit rate: %.1f%%, " +
+                           "Evictions: %d, Expirations: %d",
+                size(), maxSize, getHitCount(), getMissCount(), getHitRate() * 100,
+                getEvictionCount(), getExpirationCount());
+    }
+    
+    private static final class CacheEntry {
+        final Employee employee;
+        final long expiresAt;
+        
+        // Eviction hints only; concurrent hits may occasionally overwrite each other
+        volatile long hits;
+        volatile long lastAccess;
+        
+        CacheEntry(Employee employee, long expiresAt) {
+            this.employee = employee;
+            this.expiresAt = expiresAt;
+            this.lastAccess = System.nanoTime();
+        }
+        
+        void recordHit(long now) {
+            hits++;
+            lastAccess = now;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.company.employee.dao;
+
+import com.company.employee.model.Employee;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collapses concurrent identical {@link #findById(Long)} and {@link #findByDepartment(String)}
+ * calls into a single query.
+ *
+ * The first caller for a key runs the query; callers that arrive while it is in flight wait
+ * for that result instead of issuing their own. Nothing is retained once the query completes,
+ * and writes made through this DAO detach the in-flight queries they may affect, so a lookup
+ * that starts after a write has returned never joins a query issued before it. Writes made
+ * elsewhere can still race with an in-flight query, as they would without coalescing.
+ * Each caller gets its own copy of the result.
+ */
+public class CoalescingEmployeeDAO extends ForwardingEmployeeDAO {
+    
+    private static final Logger logger = LoggerFactory.getLogger(CoalescingEmployeeDAO.class);
+    
+    private final ConcurrentMap<Long, CompletableFuture<Employee>> byId = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, CompletableFuture<List<Employee>>> byDepartment = new ConcurrentHashMap<>();
+    
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong queries = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    
+    public CoalescingEmployeeDAO(EmployeeDAO delegate) {
+        super(delegate);
+    }
+    
+    @Override
+    public Employee findById(Long id) {
+        if (id == null) {
+            return delegate.findById(null);
+        }
+        Employee employee = coalesce(byId, id, () -> delegate.findById(id));
+        return employee != null ? new Employee(employee) : null;
+    }
+    
+    @Override
+    public List<Employee> findByDepartment(String department) {
+        if (department == null) {
+            return delegate.findByDepartment(null);
+        }
+        List<Employee> employees = coalesce(byDepartment, department, () -> delegate.findByDepartment(department));
+        List<Employee> copies = new ArrayList<>(employees.size());
+        for (Employee employee : employees) {
+            copies.add(new Employee(employee));
+        }
+        return copies;
+    }
+    
+    private <K, V> V coalesce(ConcurrentMap<K, CompletableFuture<V>> inFlight, K key, Supplier<V> query) {
+        calls.incrementAndGet();
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            logger.debug("Joined in-flight query for {}", key);
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+        
+        queries.incrementAndGet();
+        try {
+            V result = query.get();
+            inFlight.remove(key, mine);
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, mine);
+            mine.completeExceptionally(e);
+            throw e;
+        }
+    }
+    
+    @Override
+    public Long save(Employee employee) {
+        try {
+            return delegate.save(employee);
+        } finally {
+            detach(employee != null ? employee.getId() : null);
+        }
+    }
+    
+    @Override
+    public BatchSaveResult saveAll(Collection<Employee> employees) {
+        try {
+            return delegate.saveAll(employees);
+        } finally {
+            detachAll(employees);
+        }
+    }
+    
+    @Override
+    public BatchSaveResult saveAll(Collection<Employee> employees, int batchSize) {
+        try {
+            return delegate.saveAll(employees, batchSize);
+        } finally {
+            detachAll(employees);
+        }
+    }
+    
+    @Override
+    public boolean update(Employee employee) {
+        try {
+            return delegate.update(employee);
+        } finally {
+            detach(employee != null ? employee.getId() : null);
+        }
+    }
+    
+    @Override
+    public int adjustSalary(Long id, double factor) {
+        try {
+            return delegate.adjustSalary(id, factor);
+        } finally {
+            detach(id);
+        }
+    }
+    
+    @Override
+    public int adjustSalaryByDepartment(String department, double factor) {
+        try {
+            return delegate.adjustSalaryByDepartment(department, factor);
+        } finally {
+            byId.clear();
+            byDepartment.clear();
+        }
+    }
+    
+    @Override
+    public boolean delete(Long id) {
+        try {
+            return delegate.delete(id);
+        } finally {
+            detach(id);
+        }
+    }
+    
+    /**
+     * Stop handing in-flight queries that may predate a write to new callers; callers already
+     * waiting still get their result. Any write can move an employee between departments, so
+     * department queries are always detached.
+     */
+    private void detach(Long id) {
+        if (id != null) {
+            byId.remove(id);
+        }
+        byDepartment.clear();
+    }
+    
+    private void detachAll(Collection<Employee> employees) {
+        if (employees != null) {
+            for (Employee employee : employees) {
+                if (employee != null && employee.getId() != null) {
+                    byId.remove(employee.getId());
+                }
+            }
+        }
+        byDepartment.clear();
+    }
+    
+    /**
+     * Get the number of findById/findByDepartment calls received
+     * @return Total calls
+     */
+    public long getCallCount() {
+        return calls.get();
+    }
+    
+    /**
+     * Get the number of queries actually sent to the delegate
+     * @return Executed queries
+     */
+    public long getQueryCount() {
+        return queries.get();
+    }
+    
+    /**
+     * Get the number of calls that were answered by another caller's in-flight query
+     * @return Deduplicated calls
+     */
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+    
+    /**
+     * Get coalescing statistics as a string
+     * @return Calls, executed queries and deduplicated calls
+     */
+    public String getStats() {
+        long total = calls.get();
+        return String.format("Employee lookups - Calls: %d, Queries: %d, Coalesced: %d (%.1f%%)",
+                total, queries.get(), coalesced.get(), total == 0 ? 0.0 : coalesced.get() * 100.0 / total);
+    }
+}
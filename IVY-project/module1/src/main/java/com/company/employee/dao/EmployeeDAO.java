@@ -1,7 +1,12 @@
 package com.company.employee.dao;
 
+import com.company.employee.model.DepartmentSalaryStats;
 import com.company.employee.model.Employee;
+import com.company.employee.model.HireCount;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 public interface EmployeeDAO {
     
@@ -12,6 +17,23 @@ public interface EmployeeDAO {
      */
     Long save(Employee employee);
     
+    /**
+     * Save many employees using JDBC batching in a single transaction.
+     * Generated IDs are assigned back to the saved employees; rows that fail
+     * are skipped and reported without aborting the rest.
+     * @param employees Employees to save
+     * @return Saved count and per-row failures
+     */
+    BatchSaveResult saveAll(Collection<Employee> employees);
+    
+    /**
+     * Save many employees, sending them to the database in chunks
+     * @param employees Employees to save
+     * @param batchSize Number of rows per JDBC batch
+     * @return Saved count and per-row failures
+     */
+    BatchSaveResult saveAll(Collection<Employee> employees, int batchSize);
+    
     /**
      * Find employee by ID
      * @param id Employee ID
@@ -19,6 +41,13 @@ public interface EmployeeDAO {
      */
     Employee findById(Long id);
     
+    /**
+     * Find several employees by ID with as few queries as possible
+     * @param ids Employee IDs; nulls and duplicates are ignored
+     * @return Employees keyed by ID, in the order the IDs were given; IDs not found are absent
+     */
+    Map<Long, Employee> findByIds(Collection<Long> ids);
+    
     /**
      * Find all employees
      * @return List of all employees
@@ -32,6 +61,49 @@ public interface EmployeeDAO {
      */
     List<Employee> findByDepartment(String department);
     
+    /**
+     * Stream all employees ordered by last name, first name and ID.
+     * Rows are fetched from a database cursor in chunks and the connection is
+     * held until the stream is closed, so callers must close it
+     * (e.g. try-with-resources).
+     * @return Stream of employees
+     */
+    Stream<Employee> streamAll();
+    
+    /**
+     * Stream employees of a department ordered by last name, first name and ID.
+     * The stream must be closed to release its connection.
+     * @param department Department name
+     * @return Stream of employees in the department
+     */
+    Stream<Employee> streamByDepartment(String department);
+    
+    /**
+     * Find the next page of employees in (last name, first name, ID) order,
+     * starting after the given key. Pass null for all three keys for the first page.
+     * @param afterLastName Last name of the previous page's last row, or null
+     * @param afterFirstName First name of the previous page's last row, or null
+     * @param afterId ID of the previous page's last row, or null
+     * @param limit Maximum number of rows
+     * @return Page of employees
+     * @throws IllegalArgumentException if only some of the keys are null
+     */
+    List<Employee> findPage(String afterLastName, String afterFirstName, Long afterId, int limit);
+    
+    /**
+     * Find the next page of employees in a department in (last name, first name, ID)
+     * order, starting after the given key. Pass null for all three keys for the first page.
+     * @param department Department name
+     * @param afterLastName Last name of the previous page's last row, or null
+     * @param afterFirstName First name of the previous page's last row, or null
+     * @param afterId ID of the previous page's last row, or null
+     * @param limit Maximum number of rows
+     * @return Page of employees in the department
+     * @throws IllegalArgumentException if only some of the keys are null
+     */
+    List<Employee> findPageByDepartment(String department, String afterLastName, String afterFirstName,
+                                        Long afterId, int limit);
+    
     /**
      * Update existing employee
      * @param employee Employee object with updated data
@@ -39,6 +111,23 @@ public interface EmployeeDAO {
      */
     boolean update(Employee employee);
     
+    /**
+     * Multiply one employee's salary by a factor in a single UPDATE
+     * @param id Employee ID
+     * @param factor Salary multiplier (e.g. 1.1 for a 10% raise)
+     * @return Number of rows updated (0 if not found or salary is null)
+     */
+    int adjustSalary(Long id, double factor);
+    
+    /**
+     * Multiply the salary of every employee in a department by a factor in a single UPDATE
+     * @param department Department name
+     * @param factor Salary multiplier (e.g. 1.1 for a 10% raise)
+     * @return Number of rows updated
+     * @throws RuntimeException if the update fails
+     */
+    int adjustSalaryByDepartment(String department, double factor);
+    
     /**
      * Delete employee by ID
      * @param id Employee ID to delete
@@ -51,4 +140,17 @@ public interface EmployeeDAO {
      * @return Total count of employees
      */
     int count();
+    
+    /**
+     * Aggregate headcount and salary statistics per department in the database
+     * @return One row per department, ordered by department name
+     */
+    List<DepartmentSalaryStats> getDepartmentSalaryStats();
+    
+    /**
+     * Count hires per period of hire date in the database
+     * @param period Bucket size
+     * @return One row per period that has hires, oldest first
+     */
+    List<HireCount> countHiresByPeriod(HireCount.Period period);
 }
\ No newline at end of file
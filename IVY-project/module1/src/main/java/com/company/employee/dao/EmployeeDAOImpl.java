@@ -1,12 +1,26 @@
 package com.company.employee.dao;
 
+import com.company.employee.model.DepartmentSalaryStats;
 import com.company.employee.model.Employee;
+import com.company.employee.model.HireCount;
 import com.company.employee.util.DatabaseConnection;
 
 import java.sql.*;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,38 +34,105 @@ public class EmployeeDAOImpl implements EmployeeDAO {
         "VALUES (?, ?, ?, ?, ?, ?, ?)";
     
     private static final String SELECT_EMPLOYEE_BY_ID = 
-        "SELECT * FROM employees WHERE id = ?";
+        "SELECT " + EmployeeRowMapper.COLUMNS +
+        " FROM employees WHERE id = ?";
+    
+    private static final String SELECT_EMPLOYEES_BY_IDS = 
+        "SELECT " + EmployeeRowMapper.COLUMNS +
+        " FROM employees WHERE id = ANY(?)";
     
     private static final String SELECT_ALL_EMPLOYEES = 
-        "SELECT * FROM employees ORDER BY last_name, first_name";
+        "SELECT " + EmployeeRowMapper.COLUMNS +
+        " FROM employees ORDER BY last_name, first_name";
     
     private static final String SELECT_EMPLOYEES_BY_DEPARTMENT = 
-        "SELECT * FROM employees WHERE department = ? ORDER BY last_name, first_name";
+        "SELECT " + EmployeeRowMapper.COLUMNS +
+        " FROM employees WHERE department = ? ORDER BY last_name, first_name";
+    
+    private static final String STREAM_ALL_EMPLOYEES = 
+        "SELECT " + EmployeeRowMapper.COLUMNS +
+        " FROM employees ORDER BY last_name, first_name, id";
+    
+    private static final String STREAM_EMPLOYEES_BY_DEPARTMENT = 
+        "SELECT " + EmployeeRowMapper.COLUMNS +
+        " FROM employees WHERE department = ? ORDER BY last_name, first_name, id";
+    
+    private static final String SELECT_FIRST_PAGE = 
+        "SELECT " + EmployeeRowMapper.COLUMNS +
+        " FROM employees ORDER BY last_name, first_name, id LIMIT ?";
+    
+    private static final String SELECT_PAGE_AFTER = 
+        "SELECT " + EmployeeRowMapper.COLUMNS +
+        " FROM employees WHERE (last_name, first_name, id) > (?, ?, ?) " +
+        "ORDER BY last_name, first_name, id LIMIT ?";
+    
+    private static final String SELECT_FIRST_PAGE_BY_DEPARTMENT = 
+        "SELECT " + EmployeeRowMapper.COLUMNS +
+        " FROM employees WHERE department = ? ORDER BY last_name, first_name, id LIMIT ?";
+    
+    private static final String SELECT_PAGE_BY_DEPARTMENT_AFTER = 
+        "SELECT " + EmployeeRowMapper.COLUMNS +
+        " FROM employees WHERE department = ? AND (last_name, first_name, id) > (?, ?, ?) " +
+        "ORDER BY last_name, first_name, id LIMIT ?";
     
     private static final String UPDATE_EMPLOYEE = 
         "UPDATE employees SET first_name = ?, last_name = ?, email = ?, phone_number = ?, " +
         "hire_date = ?, department = ?, salary = ? WHERE id = ?";
     
+    private static final String ADJUST_SALARY = 
+        "UPDATE employees SET salary = salary * ? WHERE id = ? AND salary IS NOT NULL";
+    
+    private static final String ADJUST_SALARY_BY_DEPARTMENT = 
+        "UPDATE employees SET salary = salary * ? WHERE department = ? AND salary IS NOT NULL";
+    
     private static final String DELETE_EMPLOYEE = 
         "DELETE FROM employees WHERE id = ?";
     
     private static final String COUNT_EMPLOYEES = 
         "SELECT COUNT(*) FROM employees";
     
+    private static final String DEPARTMENT_SALARY_STATS = 
+        "SELECT department, COUNT(*) AS headcount, SUM(salary) AS total_salary, " +
+        "AVG(salary) AS avg_salary, MIN(salary) AS min_salary, MAX(salary) AS max_salary, " +
+        "percentile_cont(0.25) WITHIN GROUP (ORDER BY salary) AS p25_salary, " +
+        "percentile_cont(0.5) WITHIN GROUP (ORDER BY salary) AS median_salary, " +
+        "percentile_cont(0.75) WITHIN GROUP (ORDER BY salary) AS p75_salary, " +
+        "percentile_cont(0.9) WITHIN GROUP (ORDER BY salary) AS p90_salary " +
+        "FROM employees GROUP BY department ORDER BY department";
+    
+    private static final String HIRES_BY_PERIOD = 
+        "SELECT CAST(date_trunc(?, hire_date) AS date) AS period_start, COUNT(*) AS hires " +
+        "FROM employees WHERE hire_date IS NOT NULL GROUP BY 1 ORDER BY 1";
+    
+    private static final int DEFAULT_BATCH_SIZE = 500;
+    private static final int STREAM_FETCH_SIZE = 500;
+    private static final int FIND_BY_IDS_CHUNK_SIZE = 1000;
+    
+    private final int batchSize;
+    
+    public EmployeeDAOImpl() {
+        this(DEFAULT_BATCH_SIZE);
+    }
+    
+    /**
+     * @param batchSize Default number of rows per JDBC batch for {@link #saveAll(Collection)}
+     */
+    public EmployeeDAOImpl(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.batchSize = batchSize;
+    }
+    
     @Override
     public Long save(Employee employee) {
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(INSERT_EMPLOYEE, Statement.RETURN_GENERATED_KEYS)) {
             
-            stmt.setString(1, employee.getFirstName());
-            stmt.setString(2, employee.getLastName());
-            stmt.setString(3, employee.getEmail());
-            stmt.setString(4, employee.getPhoneNumber());
-            stmt.setDate(5, Date.valueOf(employee.getHireDate()));
-            stmt.setString(6, employee.getDepartment());
-            stmt.setDouble(7, employee.getSalary());
+            bindEmployee(stmt, employee);
             
             int rowsAffected = stmt.executeUpdate();
+            DatabaseConnection.markWrite();
             if (rowsAffected > 0) {
                 try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
                     if (generatedKeys.next()) {
@@ -68,15 +149,135 @@ public class EmployeeDAOImpl implements EmployeeDAO {
         return null;
     }
     
+    @Override
+    public BatchSaveResult saveAll(Collection<Employee> employees) {
+        return saveAll(employees, batchSize);
+    }
+    
+    @Override
+    public BatchSaveResult saveAll(Collection<Employee> employees, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        BatchSaveResult result = new BatchSaveResult();
+        if (employees == null || employees.isEmpty()) {
+            return result;
+        }
+        
+        List<Employee> rows = new ArrayList<>(employees);
+        List<Employee> saved = new ArrayList<>();
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement(INSERT_EMPLOYEE, Statement.RETURN_GENERATED_KEYS)) {
+                for (int start = 0; start < rows.size(); start += batchSize) {
+                    insertChunk(conn, stmt, rows, start, Math.min(start + batchSize, rows.size()), result, saved);
+                }
+                conn.commit();
+                DatabaseConnection.markWrite();
+                logger.info("Batch saved {} employees ({} failed) in chunks of {}",
+                        result.getSavedCount(), result.getFailures().size(), batchSize);
+            } catch (SQLException e) {
+                conn.rollback();
+                logger.error("Error batch saving employees, transaction rolled back: {}", e.getMessage(), e);
+                return rollbackResult(rows, saved, e);
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            logger.error("Error batch saving employees: {}", e.getMessage(), e);
+            return rollbackResult(rows, saved, e);
+        }
+        return result;
+    }
+    
+    /**
+     * Insert rows [start, end) as one JDBC batch. If the batch fails, roll back
+     * to the chunk's savepoint and insert the rows one by one, each behind its
+     * own savepoint, so only the offending rows are rejected.
+     */
+    private void insertChunk(Connection conn, PreparedStatement stmt, List<Employee> rows, int start, int end,
+                             BatchSaveResult result, List<Employee> saved) throws SQLException {
+        List<Integer> batched = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            try {
+                bindEmployee(stmt, rows.get(i));
+                stmt.addBatch();
+                batched.add(i);
+            } catch (RuntimeException e) {
+                result.addFailure(i, rows.get(i), "Invalid row: " + e);
+            }
+        }
+        if (batched.isEmpty()) {
+            return;
+        }
+        
+        Savepoint chunkSavepoint = conn.setSavepoint();
+        try {
+            stmt.executeBatch();
+            try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+                for (int i = 0; i < batched.size() && generatedKeys.next(); i++) {
+                    Employee employee = rows.get(batched.get(i));
+                    employee.setId(generatedKeys.getLong(1));
+                    saved.add(employee);
+                }
+            }
+            conn.releaseSavepoint(chunkSavepoint);
+            result.addSaved(batched.size());
+        } catch (BatchUpdateException e) {
+            stmt.clearBatch();
+            conn.rollback(chunkSavepoint);
+            logger.warn("Batch of {} rows failed ({}), retrying row by row", batched.size(), e.getMessage());
+            for (int i : batched) {
+                insertSingle(conn, stmt, rows.get(i), i, result, saved);
+            }
+        }
+    }
+    
+    private void insertSingle(Connection conn, PreparedStatement stmt, Employee employee, int index,
+                              BatchSaveResult result, List<Employee> saved) throws SQLException {
+        Savepoint rowSavepoint = conn.setSavepoint();
+        try {
+            bindEmployee(stmt, employee);
+            stmt.executeUpdate();
+            try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+                if (generatedKeys.next()) {
+                    employee.setId(generatedKeys.getLong(1));
+                }
+            }
+            conn.releaseSavepoint(rowSavepoint);
+            saved.add(employee);
+            result.addSaved(1);
+        } catch (SQLException e) {
+            conn.rollback(rowSavepoint);
+            result.addFailure(index, employee, e.getMessage());
+        }
+    }
+    
+    /**
+     * Build the result for a transaction that was rolled back: every row failed
+     * and IDs assigned during the attempt are cleared.
+     */
+    private BatchSaveResult rollbackResult(List<Employee> rows, List<Employee> saved, SQLException cause) {
+        for (Employee employee : saved) {
+            employee.setId(null);
+        }
+        BatchSaveResult failed = new BatchSaveResult();
+        for (int i = 0; i < rows.size(); i++) {
+            failed.addFailure(i, rows.get(i), "Transaction rolled back: " + cause.getMessage());
+        }
+        return failed;
+    }
+    
     @Override
     public Employee findById(Long id) {
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(SELECT_EMPLOYEE_BY_ID)) {
             
             stmt.setLong(1, id);
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    return extractEmployeeFromResultSet(rs);
+                    return EmployeeRowMapper.forResultSet(rs).map(rs);
                 }
             }
         } catch (SQLException e) {
@@ -85,15 +286,73 @@ public class EmployeeDAOImpl implements EmployeeDAO {
         return null;
     }
     
+    /**
+     * IDs are bound as a single bigint array per chunk, so every chunk reuses the same
+     * statement text and the parameter list stays bounded however many IDs are requested.
+     */
+    @Override
+    public Map<Long, Employee> findByIds(Collection<Long> ids) {
+        Map<Long, Employee> result = new LinkedHashMap<>();
+        if (ids == null || ids.isEmpty()) {
+            return result;
+        }
+        
+        Set<Long> distinct = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (id != null) {
+                distinct.add(id);
+            }
+        }
+        if (distinct.isEmpty()) {
+            return result;
+        }
+        
+        Map<Long, Employee> found = new HashMap<>(distinct.size() * 2);
+        List<Long> pending = new ArrayList<>(distinct);
+        try (Connection conn = DatabaseConnection.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(SELECT_EMPLOYEES_BY_IDS)) {
+            
+            for (int from = 0; from < pending.size(); from += FIND_BY_IDS_CHUNK_SIZE) {
+                List<Long> chunk = pending.subList(from, Math.min(from + FIND_BY_IDS_CHUNK_SIZE, pending.size()));
+                Array idArray = conn.createArrayOf("bigint", chunk.toArray());
+                try {
+                    stmt.setArray(1, idArray);
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        EmployeeRowMapper mapper = EmployeeRowMapper.forResultSet(rs);
+                        while (rs.next()) {
+                            Employee employee = mapper.map(rs);
+                            found.put(employee.getId(), employee);
+                        }
+                    }
+                } finally {
+                    idArray.free();
+                }
+            }
+            logger.debug("Found {} of {} employees by ID", found.size(), distinct.size());
+        } catch (SQLException e) {
+            logger.error("Error finding employees by IDs: {}", e.getMessage(), e);
+            return result;
+        }
+        
+        for (Long id : distinct) {
+            Employee employee = found.get(id);
+            if (employee != null) {
+                result.put(id, employee);
+            }
+        }
+        return result;
+    }
+    
     @Override
     public List<Employee> findAll() {
         List<Employee> employees = new ArrayList<>();
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(SELECT_ALL_EMPLOYEES);
              ResultSet rs = stmt.executeQuery()) {
             
+            EmployeeRowMapper mapper = EmployeeRowMapper.forResultSet(rs);
             while (rs.next()) {
-                employees.add(extractEmployeeFromResultSet(rs));
+                employees.add(mapper.map(rs));
             }
             logger.info("Found {} employees", employees.size());
         } catch (SQLException e) {
@@ -105,13 +364,14 @@ public class EmployeeDAOImpl implements EmployeeDAO {
     @Override
     public List<Employee> findByDepartment(String department) {
         List<Employee> employees = new ArrayList<>();
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(SELECT_EMPLOYEES_BY_DEPARTMENT)) {
             
             stmt.setString(1, department);
             try (ResultSet rs = stmt.executeQuery()) {
+                EmployeeRowMapper mapper = EmployeeRowMapper.forResultSet(rs);
                 while (rs.next()) {
-                    employees.add(extractEmployeeFromResultSet(rs));
+                    employees.add(mapper.map(rs));
                 }
             }
             logger.info("Found {} employees in department: {}", employees.size(), department);
@@ -121,21 +381,159 @@ public class EmployeeDAOImpl implements EmployeeDAO {
         return employees;
     }
     
+    @Override
+    public Stream<Employee> streamAll() {
+        return stream(STREAM_ALL_EMPLOYEES, null);
+    }
+    
+    @Override
+    public Stream<Employee> streamByDepartment(String department) {
+        return stream(STREAM_EMPLOYEES_BY_DEPARTMENT, department);
+    }
+    
+    /**
+     * Open a cursor-backed stream. Auto-commit is disabled so the driver fetches
+     * rows in chunks of {@link #STREAM_FETCH_SIZE} instead of materializing the
+     * whole result; the connection is returned to the pool when the stream closes.
+     */
+    private Stream<Employee> stream(String sql, String department) {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        EmployeeRowMapper mapper;
+        try {
+            conn = DatabaseConnection.getReadConnection();
+            conn.setAutoCommit(false);
+            stmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            stmt.setFetchSize(STREAM_FETCH_SIZE);
+            if (department != null) {
+                stmt.setString(1, department);
+            }
+            rs = stmt.executeQuery();
+            mapper = EmployeeRowMapper.forResultSet(rs);
+        } catch (SQLException e) {
+            closeQuietly(conn, stmt, rs);
+            logger.error("Error opening employee stream: {}", e.getMessage(), e);
+            throw new RuntimeException("Error opening employee stream", e);
+        }
+        
+        Connection streamConn = conn;
+        PreparedStatement streamStmt = stmt;
+        ResultSet streamRs = rs;
+        Spliterator<Employee> rows = new Spliterators.AbstractSpliterator<Employee>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super Employee> action) {
+                try {
+                    if (!streamRs.next()) {
+                        return false;
+                    }
+                    action.accept(mapper.map(streamRs));
+                    return true;
+                } catch (SQLException e) {
+                    logger.error("Error streaming employees: {}", e.getMessage(), e);
+                    throw new RuntimeException("Error streaming employees", e);
+                }
+            }
+        };
+        return StreamSupport.stream(rows, false)
+                .onClose(() -> closeQuietly(streamConn, streamStmt, streamRs));
+    }
+    
+    private void closeQuietly(Connection conn, Statement stmt, ResultSet rs) {
+        try {
+            if (rs != null) {
+                rs.close();
+            }
+            if (stmt != null) {
+                stmt.close();
+            }
+        } catch (SQLException e) {
+            logger.warn("Error closing employee stream: {}", e.getMessage());
+        }
+        if (conn != null) {
+            try {
+                conn.rollback();
+                conn.setAutoCommit(true);
+            } catch (SQLException e) {
+                logger.warn("Error resetting streamed connection: {}", e.getMessage());
+            }
+            try {
+                conn.close();
+            } catch (SQLException e) {
+                logger.warn("Error closing streamed connection: {}", e.getMessage());
+            }
+        }
+    }
+    
+    @Override
+    public List<Employee> findPage(String afterLastName, String afterFirstName, Long afterId, int limit) {
+        return findPage(null, afterLastName, afterFirstName, afterId, limit);
+    }
+    
+    @Override
+    public List<Employee> findPageByDepartment(String department, String afterLastName, String afterFirstName,
+                                               Long afterId, int limit) {
+        return findPage(department, afterLastName, afterFirstName, afterId, limit);
+    }
+    
+    /**
+     * Keyset pagination: seek past the previous page's last (last_name, first_name, id)
+     * instead of using OFFSET, so every page costs the same however deep it is.
+     */
+    private List<Employee> findPage(String department, String afterLastName, String afterFirstName,
+                                    Long afterId, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Page limit must be positive");
+        }
+        boolean firstPage = afterLastName == null && afterFirstName == null && afterId == null;
+        if (!firstPage && (afterLastName == null || afterFirstName == null || afterId == null)) {
+            // Treating a partial key as the first page would make callers loop on page one
+            throw new IllegalArgumentException("Page key needs last name, first name and ID, or none of them");
+        }
+        String sql = department == null
+                ? (firstPage ? SELECT_FIRST_PAGE : SELECT_PAGE_AFTER)
+                : (firstPage ? SELECT_FIRST_PAGE_BY_DEPARTMENT : SELECT_PAGE_BY_DEPARTMENT_AFTER);
+        
+        List<Employee> employees = new ArrayList<>(limit);
+        try (Connection conn = DatabaseConnection.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            
+            int param = 1;
+            if (department != null) {
+                stmt.setString(param++, department);
+            }
+            if (!firstPage) {
+                stmt.setString(param++, afterLastName);
+                stmt.setString(param++, afterFirstName);
+                stmt.setLong(param++, afterId);
+            }
+            stmt.setInt(param, limit);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                EmployeeRowMapper mapper = EmployeeRowMapper.forResultSet(rs);
+                while (rs.next()) {
+                    employees.add(mapper.map(rs));
+                }
+            }
+            logger.debug("Found page of {} employees after ({}, {}, {})",
+                    employees.size(), afterLastName, afterFirstName, afterId);
+        } catch (SQLException e) {
+            logger.error("Error finding employee page: {}", e.getMessage(), e);
+        }
+        return employees;
+    }
+    
     @Override
     public boolean update(Employee employee) {
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(UPDATE_EMPLOYEE)) {
             
-            stmt.setString(1, employee.getFirstName());
-            stmt.setString(2, employee.getLastName());
-            stmt.setString(3, employee.getEmail());
-            stmt.setString(4, employee.getPhoneNumber());
-            stmt.setDate(5, Date.valueOf(employee.getHireDate()));
-            stmt.setString(6, employee.getDepartment());
-            stmt.setDouble(7, employee.getSalary());
+            bindEmployee(stmt, employee);
             stmt.setLong(8, employee.getId());
             
             int rowsAffected = stmt.executeUpdate();
+            DatabaseConnection.markWrite();
             boolean success = rowsAffected > 0;
             if (success) {
                 logger.info("Employee updated successfully: {}", employee.getId());
@@ -147,6 +545,45 @@ public class EmployeeDAOImpl implements EmployeeDAO {
         }
     }
     
+    @Override
+    public int adjustSalary(Long id, double factor) {
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(ADJUST_SALARY)) {
+            
+            stmt.setDouble(1, factor);
+            stmt.setLong(2, id);
+            int rowsAffected = stmt.executeUpdate();
+            DatabaseConnection.markWrite();
+            if (rowsAffected > 0) {
+                logger.info("Salary adjusted by factor {} for employee: {}", factor, id);
+            }
+            return rowsAffected;
+        } catch (SQLException e) {
+            logger.error("Error adjusting salary for employee {}: {}", id, e.getMessage(), e);
+            return 0;
+        }
+    }
+    
+    @Override
+    public int adjustSalaryByDepartment(String department, double factor) {
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(ADJUST_SALARY_BY_DEPARTMENT)) {
+            
+            stmt.setDouble(1, factor);
+            stmt.setString(2, department);
+            int rowsAffected = stmt.executeUpdate();
+            DatabaseConnection.markWrite();
+            logger.info("Salary adjusted by factor {} for {} employees in department: {}",
+                    factor, rowsAffected, department);
+            return rowsAffected;
+        } catch (SQLException e) {
+            // Thrown rather than returning 0, which would look like a department with no employees
+            logger.error("Error adjusting salaries for department {}: {}", department, e.getMessage(), e);
+            throw new RuntimeException("Error adjusting salaries for department " + department + ": "
+                    + e.getMessage(), e);
+        }
+    }
+    
     @Override
     public boolean delete(Long id) {
         try (Connection conn = DatabaseConnection.getConnection();
@@ -154,6 +591,7 @@ public class EmployeeDAOImpl implements EmployeeDAO {
             
             stmt.setLong(1, id);
             int rowsAffected = stmt.executeUpdate();
+            DatabaseConnection.markWrite();
             boolean success = rowsAffected > 0;
             if (success) {
                 logger.info("Employee deleted successfully: {}", id);
@@ -167,7 +605,7 @@ public class EmployeeDAOImpl implements EmployeeDAO {
     
     @Override
     public int count() {
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(COUNT_EMPLOYEES);
              ResultSet rs = stmt.executeQuery()) {
             
@@ -180,22 +618,59 @@ public class EmployeeDAOImpl implements EmployeeDAO {
         return 0;
     }
     
-    private Employee extractEmployeeFromResultSet(ResultSet rs) throws SQLException {
-        Employee employee = new Employee();
-        employee.setId(rs.getLong("id"));
-        employee.setFirstName(rs.getString("first_name"));
-        employee.setLastName(rs.getString("last_name"));
-        employee.setEmail(rs.getString("email"));
-        employee.setPhoneNumber(rs.getString("phone_number"));
-        
-        Date hireDate = rs.getDate("hire_date");
-        if (hireDate != null) {
-            employee.setHireDate(hireDate.toLocalDate());
+    @Override
+    public List<DepartmentSalaryStats> getDepartmentSalaryStats() {
+        List<DepartmentSalaryStats> stats = new ArrayList<>();
+        try (Connection conn = DatabaseConnection.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(DEPARTMENT_SALARY_STATS);
+             ResultSet rs = stmt.executeQuery()) {
+            
+            while (rs.next()) {
+                stats.add(new DepartmentSalaryStats(
+                        rs.getString("department"),
+                        rs.getInt("headcount"),
+                        rs.getDouble("total_salary"),
+                        rs.getDouble("avg_salary"),
+                        rs.getDouble("min_salary"),
+                        rs.getDouble("max_salary"),
+                        rs.getDouble("p25_salary"),
+                        rs.getDouble("median_salary"),
+                        rs.getDouble("p75_salary"),
+                        rs.getDouble("p90_salary")));
+            }
+            logger.debug("Computed salary statistics for {} departments", stats.size());
+        } catch (SQLException e) {
+            logger.error("Error computing department salary statistics: {}", e.getMessage(), e);
         }
-        
-        employee.setDepartment(rs.getString("department"));
-        employee.setSalary(rs.getDouble("salary"));
-        
-        return employee;
+        return stats;
+    }
+    
+    @Override
+    public List<HireCount> countHiresByPeriod(HireCount.Period period) {
+        List<HireCount> counts = new ArrayList<>();
+        try (Connection conn = DatabaseConnection.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(HIRES_BY_PERIOD)) {
+            
+            stmt.setString(1, period.name().toLowerCase(Locale.ROOT));
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    counts.add(new HireCount(rs.getDate("period_start").toLocalDate(), rs.getInt("hires")));
+                }
+            }
+            logger.debug("Counted hires in {} {} periods", counts.size(), period);
+        } catch (SQLException e) {
+            logger.error("Error counting hires by {}: {}", period, e.getMessage(), e);
+        }
+        return counts;
+    }
+    
+    private void bindEmployee(PreparedStatement stmt, Employee employee) throws SQLException {
+        stmt.setString(1, employee.getFirstName());
+        stmt.setString(2, employee.getLastName());
+        stmt.setString(3, employee.getEmail());
+        stmt.setString(4, employee.getPhoneNumber());
+        stmt.setDate(5, Date.valueOf(employee.getHireDate()));
+        stmt.setString(6, employee.getDepartment());
+        stmt.setDouble(7, employee.getSalary());
     }
 }
\ No newline at end of file
@@ -0,0 +1,117 @@
+package com.company.employee.dao;
+
+import com.company.employee.model.Employee;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Maps employee rows by column index instead of by column label.
+ *
+ * Column positions are resolved once per result set shape (the ordered list of
+ * column labels) and cached, so a scan reads each row with plain index lookups.
+ */
+final class EmployeeRowMapper {
+
+    /** Column list every employee query projects, in the order the mapper expects */
+    static final String COLUMNS =
+        "id, first_name, last_name, email, phone_number, hire_date, department, salary";
+
+    private static final String[] REQUIRED_COLUMNS =
+        {"id", "first_name", "last_name", "email", "phone_number", "hire_date", "department", "salary"};
+
+    private static final ConcurrentMap<String, EmployeeRowMapper> MAPPERS_BY_SHAPE = new ConcurrentHashMap<>();
+
+    private final int id;
+    private final int firstName;
+    private final int lastName;
+    private final int email;
+    private final int phoneNumber;
+    private final int hireDate;
+    private final int department;
+    private final int salary;
+
+    private EmployeeRowMapper(int[] indexes) {
+        this.id = indexes[0];
+        this.firstName = indexes[1];
+        this.lastName = indexes[2];
+        this.email = indexes[3];
+        this.phoneNumber = indexes[4];
+        this.hireDate = indexes[5];
+        this.department = indexes[6];
+        this.salary = indexes[7];
+    }
+
+    /**
+     * Get the mapper for a result set's column layout
+     * @param rs Result set about to be read
+     * @return Mapper with resolved column indexes
+     * @throws SQLException if a required employee column is missing
+     */
+    static EmployeeRowMapper forResultSet(ResultSet rs) throws SQLException {
+        ResultSetMetaData metaData = rs.getMetaData();
+        int columnCount = metaData.getColumnCount();
+        String[] labels = new String[columnCount];
+        StringBuilder shape = new StringBuilder();
+        for (int i = 0; i < columnCount; i++) {
+            labels[i] = metaData.getColumnLabel(i + 1).toLowerCase(Locale.ROOT);
+            shape.append(labels[i]).append(',');
+        }
+
+        String key = shape.toString();
+        EmployeeRowMapper mapper = MAPPERS_BY_SHAPE.get(key);
+        if (mapper == null) {
+            mapper = new EmployeeRowMapper(resolve(labels));
+            EmployeeRowMapper existing = MAPPERS_BY_SHAPE.putIfAbsent(key, mapper);
+            if (existing != null) {
+                mapper = existing;
+            }
+        }
+        return mapper;
+    }
+
+    private static int[] resolve(String[] labels) throws SQLException {
+        int[] indexes = new int[REQUIRED_COLUMNS.length];
+        for (int c = 0; c < REQUIRED_COLUMNS.length; c++) {
+            for (int i = 0; i < labels.length; i++) {
+                if (labels[i].equals(REQUIRED_COLUMNS[c])) {
+                    indexes[c] = i + 1;
+                    break;
+                }
+            }
+            if (indexes[c] == 0) {
+                throw new SQLException("Result set has no column: " + REQUIRED_COLUMNS[c]);
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * Map the current row
+     * @param rs Result set positioned on a row
+     * @return Employee
+     */
+    Employee map(ResultSet rs) throws SQLException {
+        Employee employee = new Employee();
+        employee.setId(rs.getLong(id));
+        employee.setFirstName(rs.getString(firstName));
+        employee.setLastName(rs.getString(lastName));
+        employee.setEmail(rs.getString(email));
+        employee.setPhoneNumber(rs.getString(phoneNumber));
+
+        Date hire = rs.getDate(hireDate);
+        if (hire != null) {
+            employee.setHireDate(hire.toLocalDate());
+        }
+
+        employee.setDepartment(rs.getString(department));
+        employee.setSalary(rs.getDouble(salary));
+
+        return employee;
+    }
+}
@@ -0,0 +1,117 @@
+package com.company.employee.dao;
+
+import com.company.employee.model.DepartmentSalaryStats;
+import com.company.employee.model.Employee;
+import com.company.employee.model.HireCount;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Base class for {@link EmployeeDAO} decorators: forwards every call to the wrapped DAO,
+ * so subclasses only override the operations they change.
+ */
+public abstract class ForwardingEmployeeDAO implements EmployeeDAO {
+    
+    protected final EmployeeDAO delegate;
+    
+    protected ForwardingEmployeeDAO(EmployeeDAO delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate DAO is required");
+        }
+        this.delegate = delegate;
+    }
+    
+    @Override
+    public Long save(Employee employee) {
+        return delegate.save(employee);
+    }
+    
+    @Override
+    public BatchSaveResult saveAll(Collection<Employee> employees) {
+        return delegate.saveAll(employees);
+    }
+    
+    @Override
+    public BatchSaveResult saveAll(Collection<Employee> employees, int batchSize) {
+        return delegate.saveAll(employees, batchSize);
+    }
+    
+    @Override
+    public Employee findById(Long id) {
+        return delegate.findById(id);
+    }
+    
+    @Override
+    public Map<Long, Employee> findByIds(Collection<Long> ids) {
+        return delegate.findByIds(ids);
+    }
+    
+    @Override
+    public List<Employee> findAll() {
+        return delegate.findAll();
+    }
+    
+    @Override
+    public List<Employee> findByDepartment(String department) {
+        return delegate.findByDepartment(department);
+    }
+    
+    @Override
+    public Stream<Employee> streamAll() {
+        return delegate.streamAll();
+    }
+    
+    @Override
+    public Stream<Employee> streamByDepartment(String department) {
+        return delegate.streamByDepartment(department);
+    }
+    
+    @Override
+    public List<Employee> findPage(String afterLastName, String afterFirstName, Long afterId, int limit) {
+        return delegate.findPage(afterLastName, afterFirstName, afterId, limit);
+    }
+    
+    @Override
+    public List<Employee> findPageByDepartment(String department, String afterLastName, String afterFirstName,
+                                               Long afterId, int limit) {
+        return delegate.findPageByDepartment(department, afterLastName, afterFirstName, afterId, limit);
+    }
+    
+    @Override
+    public boolean update(Employee employee) {
+        return delegate.update(employee);
+    }
+    
+    @Override
+    public int adjustSalary(Long id, double factor) {
+        return delegate.adjustSalary(id, factor);
+    }
+    
+    @Override
+    public int adjustSalaryByDepartment(String department, double factor) {
+        return delegate.adjustSalaryByDepartment(department, factor);
+    }
+    
+    @Override
+    public boolean delete(Long id) {
+        return delegate.delete(id);
+    }
+    
+    @Override
+    public int count() {
+        return delegate.count();
+    }
+    
+    @Override
+    public List<DepartmentSalaryStats> getDepartmentSalaryStats() {
+        return delegate.getDepartmentSalaryStats();
+    }
+    
+    @Override
+    public List<HireCount> countHiresByPeriod(HireCount.Period period) {
+        return delegate.countHiresByPeriod(period);
+    }
+}
@@ -0,0 +1,57 @@
+package com.company.employee.model;
+
+public class DepartmentSalaryStats {
+    private final String department;
+    private final int headcount;
+    private final double totalSalary;
+    private final double averageSalary;
+    private final double minSalary;
+    private final double maxSalary;
+    private final double p25Salary;
+    private final double medianSalary;
+    private final double p75Salary;
+    private final double p90Salary;
+    
+    public DepartmentSalaryStats(String department, int headcount, double totalSalary, double averageSalary,
+                                 double minSalary, double maxSalary, double p25Salary, double medianSalary,
+                                 double p75Salary, double p90Salary) {
+        this.department = department;
+        this.headcount = headcount;
+        this.totalSalary = totalSalary;
+        this.averageSalary = averageSalary;
+        this.minSalary = minSalary;
+        this.maxSalary = maxSalary;
+        this.p25Salary = p25Salary;
+        this.medianSalary = medianSalary;
+        this.p75Salary = p75Salary;
+        this.p90Salary = p90Salary;
+    }
+    
+    // Getters
+    public String getDepartment() { return department; }
+    public int getHeadcount() { return headcount; }
+    public double getTotalSalary() { return totalSalary; }
+    public double getAverageSalary() { return averageSalary; }
+    public double getMinSalary() { return minSalary; }
+    public double getMaxSalary() { return maxSalary; }
+    public double getP25Salary() { return p25Salary; }
+    public double getMedianSalary() { return medianSalary; }
+    public double getP75Salary() { return p75Salary; }
+    public double getP90Salary() { return p90Salary; }
+    
+    @Override
+    public String toString() {
+        return "DepartmentSalaryStats{" +
+                "department='" + department + '\'' +
+                ", headcount=" + headcount +
+                ", totalSalary=" + totalSalary +
+                ", averageSalary=" + averageSalary +
+                ", minSalary=" + minSalary +
+                ", maxSalary=" + maxSalary +
+                ", p25Salary=" + p25Salary +
+                ", medianSalary=" + medianSalary +
+                ", p75Salary=" + p75Salary +
+                ", p90Salary=" + p90Salary +
+                '}';
+    }
+}
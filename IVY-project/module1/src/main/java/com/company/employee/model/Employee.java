@@ -27,6 +27,13 @@ public class Employee {
         this.salary = salary;
     }
     
+    // Copy constructor
+    public Employee(Employee other) {
+        this(other.firstName, other.lastName, other.email, other.phoneNumber,
+             other.hireDate, other.department, other.salary);
+        this.id = other.id;
+    }
+    
     // Getters and Setters
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
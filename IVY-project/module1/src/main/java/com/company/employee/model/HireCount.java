@@ -0,0 +1,31 @@
+package com.company.employee.model;
+
+import java.time.LocalDate;
+
+public class HireCount {
+    
+    /** Granularity of hire-date buckets; the names match PostgreSQL date_trunc fields */
+    public enum Period {
+        WEEK, MONTH, QUARTER, YEAR
+    }
+    
+    private final LocalDate periodStart;
+    private final int hires;
+    
+    public HireCount(LocalDate periodStart, int hires) {
+        this.periodStart = periodStart;
+        this.hires = hires;
+    }
+    
+    // Getters
+    public LocalDate getPeriodStart() { return periodStart; }
+    public int getHires() { return hires; }
+    
+    @Override
+    public String toString() {
+        return "HireCount{" +
+                "periodStart=" + periodStart +
+                ", hires=" + hires +
+                '}';
+    }
+}
@@ -0,0 +1,301 @@
+package com.company.employee.service;
+
+import com.company.employee.dao.BatchSaveResult;
+import com.company.employee.model.DepartmentSalaryStats;
+import com.company.employee.model.Employee;
+import com.company.employee.model.HireCount;
+import com.company.employee.util.DatabaseConnection;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Non-blocking facade over {@link EmployeeService}.
+ *
+ * Every operation runs on a background executor and returns a {@link CompletableFuture}.
+ * On Java 21+ each call gets its own virtual thread, and a semaphore sized to the
+ * connection pool keeps waiting calls parked cheaply instead of queueing inside Hikari.
+ * On older runtimes a bounded platform pool with one thread per pooled connection is used.
+ * Unless a fixed concurrency is given, the limit follows the pool's current maximum size,
+ * and calls queued behind it are reported to the pool so adaptive sizing sees them waiting.
+ *
+ * Streaming methods are not offered here: a stream holds a connection until it is closed
+ * and must be consumed on a single thread.
+ */
+public class AsyncEmployeeService implements AutoCloseable {
+    
+    private static final Logger logger = LoggerFactory.getLogger(AsyncEmployeeService.class);
+    
+    private final EmployeeService employeeService;
+    private final ExecutorService executor;
+    private final boolean virtualThreads;
+    private final ResizableSemaphore permits;
+    private final boolean followPool;
+    private volatile int concurrency;
+    
+    public AsyncEmployeeService() {
+        this(new EmployeeService());
+    }
+    
+    public AsyncEmployeeService(EmployeeService employeeService) {
+        this(employeeService, DatabaseConnection.getMaximumPoolSize(), true);
+    }
+    
+    /**
+     * @param employeeService Service the calls are delegated to
+     * @param maxConcurrency Maximum number of calls running against the database at once; a
+     *                       {@link #giveDepartmentRaises} call counts once but may use several connections
+     */
+    public AsyncEmployeeService(EmployeeService employeeService, int maxConcurrency) {
+        this(employeeService, maxConcurrency, false);
+    }
+    
+    private AsyncEmployeeService(EmployeeService employeeService, int maxConcurrency, boolean followPool) {
+        if (employeeService == null) {
+            throw new IllegalArgumentException("Employee service is required");
+        }
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Concurrency must be positive");
+        }
+        this.employeeService = employeeService;
+        
+        ExecutorService virtualExecutor = newVirtualThreadExecutor();
+        if (virtualExecutor != null) {
+            this.executor = virtualExecutor;
+            this.virtualThreads = true;
+            this.permits = new ResizableSemaphore(maxConcurrency);
+        } else {
+            this.executor = newPlatformExecutor(maxConcurrency);
+            this.virtualThreads = false;
+            this.permits = null;
+        }
+        this.followPool = followPool;
+        this.concurrency = maxConcurrency;
+        logger.info("Async employee service using {} (max concurrency {})",
+                virtualThreads ? "virtual threads" : "platform threads", maxConcurrency);
+    }
+    
+    /**
+     * Look up Executors.newVirtualThreadPerTaskExecutor() reflectively so this class still
+     * compiles for and runs on Java 8.
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+    
+    private static ExecutorService newPlatformExecutor(int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory factory = runnable -> {
+            Thread thread = new Thread(runnable, "employee-async-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), factory);
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+    
+    private <T> CompletableFuture<T> submit(Supplier<T> call) {
+        if (followPool) {
+            followPoolSize();
+        }
+        if (permits == null) {
+            if (!followPool) {
+                return CompletableFuture.supplyAsync(call, executor);
+            }
+            // Counted as queued until a platform thread picks the call up
+            DatabaseConnection.recordQueuedCallers(1);
+            try {
+                return CompletableFuture.supplyAsync(() -> {
+                    DatabaseConnection.recordQueuedCallers(-1);
+                    return call.get();
+                }, executor);
+            } catch (RuntimeException e) {
+                DatabaseConnection.recordQueuedCallers(-1);
+                throw e;
+            }
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            acquirePermit();
+            try {
+                return call.get();
+            } finally {
+                permits.release();
+            }
+        }, executor);
+    }
+    
+    private void acquirePermit() {
+        if (permits.tryAcquire()) {
+            return;
+        }
+        if (followPool) {
+            DatabaseConnection.recordQueuedCallers(1);
+        }
+        try {
+            permits.acquireUninterruptibly();
+        } finally {
+            if (followPool) {
+                DatabaseConnection.recordQueuedCallers(-1);
+            }
+        }
+    }
+    
+    private void followPoolSize() {
+        int poolSize = DatabaseConnection.getMaximumPoolSize();
+        if (poolSize != concurrency && poolSize > 0) {
+            resize(poolSize);
+        }
+    }
+    
+    private synchronized void resize(int target) {
+        int current = concurrency;
+        if (target == current) {
+            return;
+        }
+        if (permits != null) {
+            if (target > current) {
+                permits.release(target - current);
+            } else {
+                permits.reducePermits(current - target);
+            }
+        } else {
+            ThreadPoolExecutor pool = (ThreadPoolExecutor) executor;
+            if (target > current) {
+                pool.setMaximumPoolSize(target);
+                pool.setCorePoolSize(target);
+            } else {
+                pool.setCorePoolSize(target);
+                pool.setMaximumPoolSize(target);
+            }
+        }
+        concurrency = target;
+        logger.info("Async employee service concurrency changed from {} to {} to follow the connection pool",
+                current, target);
+    }
+    
+    public CompletableFuture<Employee> createEmployee(String firstName, String lastName, String email,
+                                                      String phoneNumber, LocalDate hireDate,
+                                                      String department, Double salary) {
+        return submit(() -> employeeService.createEmployee(firstName, lastName, email,
+                                                           phoneNumber, hireDate, department, salary));
+    }
+    
+    public CompletableFuture<BatchSaveResult> createEmployees(Collection<Employee> employees) {
+        return submit(() -> employeeService.createEmployees(employees));
+    }
+    
+    public CompletableFuture<Employee> getEmployeeById(Long id) {
+        return submit(() -> employeeService.getEmployeeById(id));
+    }
+    
+    public CompletableFuture<Map<Long, Employee>> getEmployeesByIds(Collection<Long> ids) {
+        return submit(() -> employeeService.getEmployeesByIds(ids));
+    }
+    
+    public CompletableFuture<List<Employee>> getAllEmployees() {
+        return submit(employeeService::getAllEmployees);
+    }
+    
+    public CompletableFuture<List<Employee>> getEmployeesByDepartment(String department) {
+        return submit(() -> employeeService.getEmployeesByDepartment(department));
+    }
+    
+    public CompletableFuture<List<Employee>> getEmployeePage(Employee after, int limit) {
+        return submit(() -> employeeService.getEmployeePage(after, limit));
+    }
+    
+    public CompletableFuture<Boolean> updateEmployee(Employee employee) {
+        return submit(() -> employeeService.updateEmployee(employee));
+    }
+    
+    public CompletableFuture<Boolean> deleteEmployee(Long id) {
+        return submit(() -> employeeService.deleteEmployee(id));
+    }
+    
+    public CompletableFuture<Integer> getTotalEmployeeCount() {
+        return submit(employeeService::getTotalEmployeeCount);
+    }
+    
+    public CompletableFuture<List<DepartmentSalaryStats>> getDepartmentSalaryStats() {
+        return submit(employeeService::getDepartmentSalaryStats);
+    }
+    
+    public CompletableFuture<List<HireCount>> getHireCounts(HireCount.Period period) {
+        return submit(() -> employeeService.getHireCounts(period));
+    }
+    
+    public CompletableFuture<Boolean> giveSalaryRaise(Long employeeId, double raisePercentage) {
+        return submit(() -> employeeService.giveSalaryRaise(employeeId, raisePercentage));
+    }
+    
+    public CompletableFuture<Integer> giveDepartmentRaise(String department, double raisePercentage) {
+        return submit(() -> employeeService.giveDepartmentRaise(department, raisePercentage));
+    }
+    
+    /**
+     * Raise salaries in several departments.
+     * The call holds one permit of this facade's limit, but {@link EmployeeService} runs the
+     * departments in parallel on its own update executor, so it may use several connections at
+     * once. That executor's small fixed size, shared by all callers, bounds the extra connections.
+     * @param departments Departments to raise
+     * @param raisePercentage Raise in percent
+     * @return Future with the per-department outcome
+     */
+    public CompletableFuture<DepartmentRaiseResult> giveDepartmentRaises(Collection<String> departments,
+                                                                          double raisePercentage) {
+        return submit(() -> employeeService.giveDepartmentRaises(departments, raisePercentage));
+    }
+    
+    /**
+     * Check whether calls run on virtual threads
+     * @return true on Java 21+, false when using the platform thread pool
+     */
+    public boolean isUsingVirtualThreads() {
+        return virtualThreads;
+    }
+    
+    /**
+     * Stop accepting new calls; calls already submitted still complete
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+    
+    /**
+     * Semaphore whose permit count can also shrink while permits are held
+     */
+    private static final class ResizableSemaphore extends Semaphore {
+        private static final long serialVersionUID = 1L;
+        
+        ResizableSemaphore(int permits) {
+            super(permits);
+        }
+        
+        @Override
+        protected void reducePermits(int reduction) {
+            super.reducePermits(reduction);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.company.employee.service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Outcome of a multi-department raise: how many employees were raised in each
+ * department that succeeded, and why the others failed.
+ */
+public class DepartmentRaiseResult {
+    
+    private final Map<String, Integer> raisedCounts = new LinkedHashMap<>();
+    private final Map<String, String> failures = new LinkedHashMap<>();
+    
+    /** @return Employees raised per successful department, in input order */
+    public Map<String, Integer> getRaisedCounts() { return Collections.unmodifiableMap(raisedCounts); }
+    
+    /** @return Failure reason per failed department, in input order; nothing was changed for these */
+    public Map<String, String> getFailures() { return Collections.unmodifiableMap(failures); }
+    
+    public boolean hasFailures() { return !failures.isEmpty(); }
+    
+    /**
+     * Get the number of employees raised across all successful departments
+     * @return Total employees raised
+     */
+    public int getTotalRaised() {
+        int total = 0;
+        for (int count : raisedCounts.values()) {
+            total += count;
+        }
+        return total;
+    }
+    
+    void addRaised(String department, int count) {
+        raisedCounts.put(department, count);
+    }
+    
+    void addFailure(String department, String reason) {
+        failures.put(department, reason);
+    }
+    
+    @Override
+    public String toString() {
+        return "DepartmentRaiseResult{raised=" + raisedCounts + ", failed=" + failures + '}';
+    }
+}
@@ -1,21 +1,44 @@
 package com.company.employee.service;
 
+import com.company.employee.dao.BatchSaveResult;
 import com.company.employee.dao.EmployeeDAO;
 import com.company.employee.dao.EmployeeDAOImpl;
+import com.company.employee.model.DepartmentSalaryStats;
 import com.company.employee.model.Employee;
+import com.company.employee.model.HireCount;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 public class EmployeeService {
     
+    private static final int MAX_PARALLEL_UPDATES = 4;
+    
+    // Shared by all instances so concurrent callers together run at most MAX_PARALLEL_UPDATES UPDATEs
+    private static final ExecutorService UPDATE_EXECUTOR = newUpdateExecutor();
+    
     private final EmployeeDAO employeeDAO;
     
     public EmployeeService() {
         this.employeeDAO = new EmployeeDAOImpl();
     }
     
-    // Constructor for dependency injection (useful for testing)
+    // Constructor for dependency injection (useful for testing, or to enable caching:
+    // new EmployeeService(new CachingEmployeeDAO(new EmployeeDAOImpl())))
     public EmployeeService(EmployeeDAO employeeDAO) {
         this.employeeDAO = employeeDAO;
     }
@@ -35,18 +58,7 @@ public class EmployeeService {
                                  String phoneNumber, LocalDate hireDate, String department, Double salary) {
         
         // Basic validation
-        if (firstName == null || firstName.trim().isEmpty()) {
-            throw new IllegalArgumentException("First name is required");
-        }
-        if (lastName == null || lastName.trim().isEmpty()) {
-            throw new IllegalArgumentException("Last name is required");
-        }
-        if (email == null || !isValidEmail(email)) {
-            throw new IllegalArgumentException("Valid email is required");
-        }
-        if (salary != null && salary < 0) {
-            throw new IllegalArgumentException("Salary cannot be negative");
-        }
+        validateDetails(firstName, lastName, email, salary);
         
         Employee employee = new Employee(firstName.trim(), lastName.trim(), email.trim(),
                                        phoneNumber != null ? phoneNumber.trim() : null,
@@ -56,6 +68,46 @@ public class EmployeeService {
         return id != null ? employee : null;
     }
     
+    /**
+     * Create many employees in one batched transaction.
+     * Each employee is validated with the same rules as {@link #createEmployee};
+     * invalid rows are reported as failures and never sent to the database.
+     * Saved employees get their generated IDs assigned.
+     * @param employees Employees to create
+     * @return Saved count and per-row failures (indexes refer to the input order)
+     */
+    public BatchSaveResult createEmployees(Collection<Employee> employees) {
+        if (employees == null) {
+            throw new IllegalArgumentException("Employees are required");
+        }
+        
+        BatchSaveResult rejected = new BatchSaveResult();
+        List<Employee> valid = new ArrayList<>(employees.size());
+        List<Integer> validIndexes = new ArrayList<>(employees.size());
+        int index = 0;
+        for (Employee employee : employees) {
+            try {
+                if (employee == null) {
+                    throw new IllegalArgumentException("Employee is required");
+                }
+                validateDetails(employee.getFirstName(), employee.getLastName(),
+                                employee.getEmail(), employee.getSalary());
+                normalize(employee);
+                valid.add(employee);
+                validIndexes.add(index);
+            } catch (IllegalArgumentException e) {
+                rejected.reject(index, employee, e.getMessage());
+            }
+            index++;
+        }
+        
+        if (!valid.isEmpty()) {
+            // DAO failure indexes refer to the valid list; map them back to input positions
+            rejected.merge(employeeDAO.saveAll(valid), validIndexes);
+        }
+        return rejected;
+    }
+    
     /**
      * Find employee by ID
      * @param id Employee ID
@@ -68,6 +120,23 @@ public class EmployeeService {
         return employeeDAO.findById(id);
     }
     
+    /**
+     * Get several employees by ID in bulk instead of one lookup per ID
+     * @param ids Employee IDs
+     * @return Employees keyed by ID in the order given; IDs not found are absent
+     */
+    public Map<Long, Employee> getEmployeesByIds(Collection<Long> ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("Employee IDs are required");
+        }
+        for (Long id : ids) {
+            if (id == null || id <= 0) {
+                throw new IllegalArgumentException("Valid employee ID is required");
+            }
+        }
+        return employeeDAO.findByIds(ids);
+    }
+    
     /**
      * Get all employees
      * @return List of all employees
@@ -88,6 +157,48 @@ public class EmployeeService {
         return employeeDAO.findByDepartment(department.trim());
     }
     
+    /**
+     * Stream all employees without loading them into memory.
+     * The stream holds a database connection and must be closed.
+     * @return Stream of employees ordered by last name, first name and ID
+     */
+    public Stream<Employee> streamAllEmployees() {
+        return employeeDAO.streamAll();
+    }
+    
+    /**
+     * Stream employees of a department without loading them into memory.
+     * The stream holds a database connection and must be closed.
+     * @param department Department name
+     * @return Stream of employees ordered by last name, first name and ID
+     */
+    public Stream<Employee> streamEmployeesByDepartment(String department) {
+        if (department == null || department.trim().isEmpty()) {
+            throw new IllegalArgumentException("Department is required");
+        }
+        return employeeDAO.streamByDepartment(department.trim());
+    }
+    
+    /**
+     * Get the page of employees following the given employee in
+     * (last name, first name, ID) order
+     * @param after Last employee of the previous page, or null for the first page
+     * @param limit Maximum page size
+     * @return Page of employees
+     */
+    public List<Employee> getEmployeePage(Employee after, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Page limit must be positive");
+        }
+        if (after == null) {
+            return employeeDAO.findPage(null, null, null, limit);
+        }
+        if (after.getId() == null) {
+            throw new IllegalArgumentException("Employee with valid ID is required");
+        }
+        return employeeDAO.findPage(after.getLastName(), after.getFirstName(), after.getId(), limit);
+    }
+    
     /**
      * Update employee information
      * @param employee Employee with updated information
@@ -99,18 +210,8 @@ public class EmployeeService {
         }
         
         // Validate updated data
-        if (employee.getFirstName() == null || employee.getFirstName().trim().isEmpty()) {
-            throw new IllegalArgumentException("First name is required");
-        }
-        if (employee.getLastName() == null || employee.getLastName().trim().isEmpty()) {
-            throw new IllegalArgumentException("Last name is required");
-        }
-        if (employee.getEmail() == null || !isValidEmail(employee.getEmail())) {
-            throw new IllegalArgumentException("Valid email is required");
-        }
-        if (employee.getSalary() != null && employee.getSalary() < 0) {
-            throw new IllegalArgumentException("Salary cannot be negative");
-        }
+        validateDetails(employee.getFirstName(), employee.getLastName(),
+                        employee.getEmail(), employee.getSalary());
         
         return employeeDAO.update(employee);
     }
@@ -136,7 +237,28 @@ public class EmployeeService {
     }
     
     /**
-     * Give salary raise to employee
+     * Get headcount and salary statistics (sum, average, min, max, percentiles) per department
+     * @return Statistics per department, ordered by department name
+     */
+    public List<DepartmentSalaryStats> getDepartmentSalaryStats() {
+        return employeeDAO.getDepartmentSalaryStats();
+    }
+    
+    /**
+     * Get the number of hires per week, month, quarter or year
+     * @param period Bucket size
+     * @return Hire counts, oldest period first
+     */
+    public List<HireCount> getHireCounts(HireCount.Period period) {
+        if (period == null) {
+            throw new IllegalArgumentException("Period is required");
+        }
+        return employeeDAO.countHiresByPeriod(period);
+    }
+    
+    /**
+     * Give salary raise to employee.
+     * The raise is applied by a single atomic UPDATE, so concurrent raises never overwrite each other.
      * @param employeeId Employee ID
      * @param raisePercentage Percentage increase (e.g., 10 for 10%)
      * @return true if raise applied successfully
@@ -145,22 +267,120 @@ public class EmployeeService {
         if (employeeId == null || employeeId <= 0) {
             throw new IllegalArgumentException("Valid employee ID is required");
         }
-        if (raisePercentage < 0) {
-            throw new IllegalArgumentException("Raise percentage cannot be negative");
+        validateRaise(raisePercentage);
+        
+        return employeeDAO.adjustSalary(employeeId, 1 + raisePercentage / 100) > 0;
+    }
+    
+    /**
+     * Give a salary raise to every employee in a department with one UPDATE
+     * @param department Department name
+     * @param raisePercentage Percentage increase (e.g., 10 for 10%)
+     * @return Number of employees whose salary was raised
+     */
+    public int giveDepartmentRaise(String department, double raisePercentage) {
+        if (department == null || department.trim().isEmpty()) {
+            throw new IllegalArgumentException("Department is required");
         }
+        validateRaise(raisePercentage);
         
-        Employee employee = employeeDAO.findById(employeeId);
-        if (employee == null) {
-            return false;
+        return employeeDAO.adjustSalaryByDepartment(department.trim(), 1 + raisePercentage / 100);
+    }
+    
+    /**
+     * Give a salary raise to several departments, running each department's UPDATE in parallel.
+     * Each department is updated atomically on its own; one failing does not roll back the others,
+     * and is reported in the result next to the departments that succeeded.
+     * @param departments Department names
+     * @param raisePercentage Percentage increase (e.g., 10 for 10%)
+     * @return Employees raised per department and the departments that failed, in input order
+     */
+    public DepartmentRaiseResult giveDepartmentRaises(Collection<String> departments, double raisePercentage) {
+        if (departments == null) {
+            throw new IllegalArgumentException("Departments are required");
         }
+        validateRaise(raisePercentage);
         
-        if (employee.getSalary() != null) {
-            double newSalary = employee.getSalary() * (1 + raisePercentage / 100);
-            employee.setSalary(newSalary);
-            return employeeDAO.update(employee);
+        Set<String> names = new LinkedHashSet<>();
+        for (String department : departments) {
+            if (department == null || department.trim().isEmpty()) {
+                throw new IllegalArgumentException("Department is required");
+            }
+            names.add(department.trim());
         }
         
-        return false;
+        DepartmentRaiseResult result = new DepartmentRaiseResult();
+        double factor = 1 + raisePercentage / 100;
+        Map<String, Future<Integer>> pending = new LinkedHashMap<>();
+        for (String department : names) {
+            pending.put(department, UPDATE_EXECUTOR.submit(() -> employeeDAO.adjustSalaryByDepartment(department, factor)));
+        }
+        for (Map.Entry<String, Future<Integer>> entry : pending.entrySet()) {
+            try {
+                result.addRaised(entry.getKey(), entry.getValue().get());
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                result.addFailure(entry.getKey(), cause.getMessage() != null ? cause.getMessage() : cause.toString());
+            } catch (InterruptedException e) {
+                // Departments still running finish in the background; their outcome is unknown here
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while applying department raises, partial result: "
+                        + result, e);
+            }
+        }
+        return result;
+    }
+    
+    private static ExecutorService newUpdateExecutor() {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_PARALLEL_UPDATES, MAX_PARALLEL_UPDATES,
+                60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "employee-update-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+    
+    private void validateRaise(double raisePercentage) {
+        if (raisePercentage < 0) {
+            throw new IllegalArgumentException("Raise percentage cannot be negative");
+        }
+    }
+    
+    /**
+     * Validate the fields required for every employee
+     * @throws IllegalArgumentException if any field is invalid
+     */
+    private void validateDetails(String firstName, String lastName, String email, Double salary) {
+        if (firstName == null || firstName.trim().isEmpty()) {
+            throw new IllegalArgumentException("First name is required");
+        }
+        if (lastName == null || lastName.trim().isEmpty()) {
+            throw new IllegalArgumentException("Last name is required");
+        }
+        if (email == null || !isValidEmail(email)) {
+            throw new IllegalArgumentException("Valid email is required");
+        }
+        if (salary != null && salary < 0) {
+            throw new IllegalArgumentException("Salary cannot be negative");
+        }
+    }
+    
+    /**
+     * Trim text fields the same way {@link #createEmployee} does
+     */
+    private void normalize(Employee employee) {
+        employee.setFirstName(employee.getFirstName().trim());
+        employee.setLastName(employee.getLastName().trim());
+        employee.setEmail(employee.getEmail().trim());
+        if (employee.getPhoneNumber() != null) {
+            employee.setPhoneNumber(employee.getPhoneNumber().trim());
+        }
+        if (employee.getDepartment() != null) {
+            employee.setDepartment(employee.getDepartment().trim());
+        }
     }
     
     /**
@@ -0,0 +1,193 @@
+package com.company.employee.util;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Grows and shrinks a running Hikari pool's maximum size within configured bounds.
+ *
+ * Every tick the controller reads the pool's waiting threads (including callers queued in front
+ * of the pool, see {@link ConnectionPool#recordQueuedCallers(int)}) and utilization, the acquire
+ * p99 from {@link PoolTelemetry}, and how close the database is to its own
+ * {@code max_connections}. Growing needs {@code growAfter} consecutive ticks under pressure
+ * (threads waiting or slow acquires) and is refused while the database is saturated;
+ * shrinking needs {@code shrinkAfter} consecutive quiet ticks, so short lulls do not undo a
+ * resize. After every resize the controller holds for a cooldown. Each decision is logged.
+ *
+ * Settings (per pool, see {@link ConnectionPool}): {@code pool.adaptive.enabled},
+ * {@code pool.adaptive.minSize}, {@code pool.adaptive.maxSize}, {@code pool.adaptive.intervalMs},
+ * {@code pool.adaptive.targetAcquireMs}, {@code pool.adaptive.growAfter},
+ * {@code pool.adaptive.shrinkAfter}, {@code pool.adaptive.dbSaturation}.
+ */
+public class AdaptivePoolSizer implements AutoCloseable {
+    
+    private static final Logger logger = LoggerFactory.getLogger(AdaptivePoolSizer.class);
+    
+    private static final String DB_SATURATION_QUERY =
+        "SELECT (SELECT count(*) FROM pg_stat_activity WHERE backend_type = 'client backend'), "
+        + "current_setting('max_connections')::int";
+    
+    /** Pool utilization below which a tick counts as quiet */
+    private static final double LOW_UTILIZATION = 0.5;
+    
+    private final HikariDataSource dataSource;
+    private final String poolName;
+    private final int minSize;
+    private final int maxSize;
+    private final double targetAcquireMicros;
+    private final int growAfter;
+    private final int shrinkAfter;
+    private final double dbSaturation;
+    private final IntSupplier queuedCallers;
+    private final ScheduledExecutorService scheduler;
+    
+    // Only touched on the scheduler thread
+    private int pressureTicks;
+    private int quietTicks;
+    private int cooldownTicks;
+    private double lastDbUtilization = -1;
+    
+    /**
+     * @param dataSource Running pool to resize
+     * @param minSize Smallest maximum pool size the controller may set
+     * @param maxSize Largest maximum pool size the controller may set
+     * @param intervalMillis Time between decisions
+     * @param targetAcquireMillis Acquire p99 above which the pool counts as under pressure
+     * @param growAfter Consecutive pressure ticks needed to grow
+     * @param shrinkAfter Consecutive quiet ticks needed to shrink
+     * @param dbSaturation Fraction of the database's max_connections in use above which the pool never grows
+     * @param queuedCallers Callers waiting for the pool outside Hikari, counted as waiting threads
+     */
+    public AdaptivePoolSizer(HikariDataSource dataSource, int minSize, int maxSize, long intervalMillis,
+                             long targetAcquireMillis, int growAfter, int shrinkAfter, double dbSaturation,
+                             IntSupplier queuedCallers) {
+        if (minSize <= 0 || maxSize < minSize) {
+            throw new IllegalArgumentException("Pool size bounds must satisfy 0 < minSize <= maxSize");
+        }
+        if (intervalMillis <= 0 || growAfter <= 0 || shrinkAfter <= 0) {
+            throw new IllegalArgumentException("Interval and tick thresholds must be positive");
+        }
+        this.dataSource = dataSource;
+        this.poolName = dataSource.getPoolName();
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.targetAcquireMicros = targetAcquireMillis * 1_000.0;
+        this.growAfter = growAfter;
+        this.shrinkAfter = shrinkAfter;
+        this.dbSaturation = dbSaturation;
+        this.queuedCallers = queuedCallers;
+        
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "AdaptivePoolSizer-" + poolName);
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::tick, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        logger.info("Adaptive sizing enabled for {}: {}..{} connections, every {} ms",
+                poolName, minSize, maxSize, intervalMillis);
+    }
+    
+    private void tick() {
+        try {
+            if (dataSource.isClosed()) {
+                close();
+                return;
+            }
+            if (cooldownTicks > 0) {
+                // Let the last resize take effect before judging the pool again
+                cooldownTicks--;
+                return;
+            }
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            HikariConfigMXBean config = dataSource.getHikariConfigMXBean();
+            if (pool == null || config == null) {
+                return;
+            }
+            
+            int current = config.getMaximumPoolSize();
+            int waiting = pool.getThreadsAwaitingConnection() + Math.max(0, queuedCallers.getAsInt());
+            int active = pool.getActiveConnections();
+            int idle = pool.getIdleConnections();
+            PoolTelemetryMXBean telemetry = PoolTelemetry.get(poolName);
+            double acquireP99 = telemetry != null ? telemetry.getAcquireP99Micros() : 0.0;
+            double dbUtilization = sampleDbUtilization(idle);
+            
+            boolean pressure = waiting > 0 || acquireP99 > targetAcquireMicros;
+            boolean quiet = waiting == 0 && active < current * LOW_UTILIZATION && acquireP99 <= targetAcquireMicros;
+            pressureTicks = pressure ? pressureTicks + 1 : 0;
+            quietTicks = quiet ? quietTicks + 1 : 0;
+            
+            String signals = String.format("waiting=%d, active=%d/%d, acquireP99=%.0fus, dbUtilization=%s",
+                    waiting, active, current, acquireP99,
+                    dbUtilization < 0 ? "unknown" : String.format("%.0f%%", dbUtilization * 100));
+            
+            if (pressureTicks >= growAfter && current < maxSize) {
+                if (dbUtilization >= dbSaturation) {
+                    logger.info("Pool {} under pressure but not growing, database is saturated ({})", poolName, signals);
+                    pressureTicks = 0;
+                    return;
+                }
+                resize(config, current, Math.min(maxSize, current + Math.max(1, current / 4)), "pressure", signals);
+            } else if (quietTicks >= shrinkAfter && current > minSize) {
+                resize(config, current, Math.max(minSize, current - Math.max(1, current / 10)), "idle", signals);
+            } else if (dbUtilization >= dbSaturation && current > minSize && waiting == 0) {
+                resize(config, current, Math.max(minSize, current - 1), "database saturated", signals);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Adaptive sizing tick failed for {}: {}", poolName, e.getMessage());
+        }
+    }
+    
+    private void resize(HikariConfigMXBean config, int from, int to, String reason, String signals) {
+        config.setMaximumPoolSize(to);
+        if (config.getMinimumIdle() > to) {
+            config.setMinimumIdle(to);
+        }
+        logger.info("Resized pool {} from {} to {} ({}: {})", poolName, from, to, reason, signals);
+        pressureTicks = 0;
+        quietTicks = 0;
+        cooldownTicks = Math.max(1, growAfter);
+    }
+    
+    /**
+     * Measure how much of the database's connection limit is in use. A connection is only
+     * borrowed when the pool has an idle one, so the check never competes with starved callers;
+     * otherwise the last measurement is reused.
+     */
+    private double sampleDbUtilization(int idle) {
+        if (idle == 0) {
+            return lastDbUtilization;
+        }
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(DB_SATURATION_QUERY)) {
+            if (rs.next() && rs.getInt(2) > 0) {
+                lastDbUtilization = (double) rs.getInt(1) / rs.getInt(2);
+            }
+        } catch (SQLException e) {
+            logger.debug("Could not read database connection usage for {}: {}", poolName, e.getMessage());
+        }
+        return lastDbUtilization;
+    }
+    
+    /**
+     * Stop adjusting the pool; its current size is kept
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
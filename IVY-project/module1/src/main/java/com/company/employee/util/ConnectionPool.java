@@ -0,0 +1,487 @@
+package com.company.employee.util;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * One named connection pool: a primary Hikari pool plus optional read replicas,
+ * initialized asynchronously with warm-up and retried after failure.
+ * Obtain instances from {@link ConnectionPoolRegistry}.
+ */
+public class ConnectionPool {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionPool.class);
+    
+    private static final String VALIDATION_QUERY = "SELECT 1";
+    
+    private final String name;
+    private final String poolName;
+    private final Properties properties;
+    
+    private volatile HikariConfig poolConfig;
+    private volatile HikariDataSource dataSource;
+    private volatile List<HikariDataSource> replicas = Collections.emptyList();
+    private AdaptivePoolSizer sizer;
+    private CompletableFuture<Void> initialization;
+    
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final AtomicInteger queuedCallers = new AtomicInteger();
+    private final ThreadLocal<Long> lastWriteNanos = new ThreadLocal<>();
+    private final long readYourWritesWindowNanos;
+    
+    /**
+     * Pools are created by {@link ConnectionPoolRegistry}; settings are read from
+     * {@code db.pools.<name>.<key>} and fall back to {@code db.<key>}.
+     * @param name Registry name of the pool
+     * @param poolName Hikari pool name, used in logs, JMX and stats
+     * @param properties Database properties
+     */
+    ConnectionPool(String name, String poolName, Properties properties) {
+        this.name = name;
+        this.poolName = poolName;
+        this.properties = properties;
+        this.readYourWritesWindowNanos = TimeUnit.MILLISECONDS.toNanos(
+                Long.parseLong(setting("replica.readYourWritesMs", "2000")));
+    }
+    
+    /**
+     * Look up a setting for this pool, falling back to the shared {@code db.*} value
+     */
+    String setting(String key, String defaultValue) {
+        String value = properties.getProperty("db.pools." + name + "." + key);
+        return value != null ? value : properties.getProperty("db." + key, defaultValue);
+    }
+    
+    /**
+     * Get live telemetry of the primary pool
+     * @return Telemetry, or null if the pool is not running or metrics are disabled
+     */
+    public PoolTelemetryMXBean getTelemetry() {
+        return PoolTelemetry.get(poolName);
+    }
+    
+    /**
+     * Get the registry name of this pool
+     * @return Pool name as used with {@link ConnectionPoolRegistry#get(String)}
+     */
+    public String getName() {
+        return name;
+    }
+    
+    /**
+     * Get the Hikari pool name
+     * @return Pool name shown in logs, JMX and stats
+     */
+    public String getPoolName() {
+        return poolName;
+    }
+    
+    /**
+     * Start building and warming up the connection pool in the background.
+     * Returns the in-progress or completed initialization if there is one; after a
+     * failure (or after {@link #close()}) a new attempt is started.
+     * Call this early at startup to overlap pool warm-up with other initialization.
+     * @return Future completed when the pool is ready, or completed exceptionally on failure
+     */
+    public synchronized CompletableFuture<Void> initializeAsync() {
+        if (initialization != null && !initialization.isCompletedExceptionally()) {
+            return initialization;
+        }
+        CompletableFuture<Void> attempt = new CompletableFuture<>();
+        initialization = attempt;
+        
+        Thread initializer = new Thread(() -> {
+            try {
+                HikariDataSource created = initializeDataSource();
+                List<HikariDataSource> createdReplicas;
+                try {
+                    createdReplicas = initializeReplicas();
+                } catch (Exception e) {
+                    created.close();
+                    throw e;
+                }
+                synchronized (this) {
+                    if (initialization == attempt) {
+                        dataSource = created;
+                        replicas = createdReplicas;
+                        sizer = startAdaptiveSizing(created);
+                    } else {
+                        created.close();
+                        createdReplicas.forEach(HikariDataSource::close);
+                    }
+                }
+                attempt.complete(null);
+            } catch (Exception e) {
+                logger.error("Failed to initialize connection pool {}: {}", name, e.getMessage(), e);
+                attempt.completeExceptionally(e);
+            }
+        }, "ConnectionPool-" + name + "-init");
+        initializer.setDaemon(true);
+        initializer.start();
+        return attempt;
+    }
+    
+    /**
+     * Get the readiness signal of the current initialization attempt, starting one if needed
+     * @return Future completed when the pool is ready
+     */
+    public CompletableFuture<Void> getReadiness() {
+        return initializeAsync();
+    }
+    
+    /**
+     * Check whether the connection pool is initialized and warmed up
+     * @return true if connections can be obtained without waiting for initialization
+     */
+    public boolean isReady() {
+        return dataSource != null;
+    }
+    
+    private HikariConfig loadConfig() {
+        HikariConfig config = poolConfig;
+        if (config != null) {
+            return config;
+        }
+        
+        config = new HikariConfig();
+        config.setJdbcUrl(setting("url", "jdbc:postgresql://localhost:5432/company_db"));
+        config.setUsername(setting("username", "postgres"));
+        config.setPassword(setting("password", "password"));
+        config.setDriverClassName(setting("driver", "org.postgresql.Driver"));
+        
+        // Connection pool settings
+        config.setMaximumPoolSize(Integer.parseInt(setting("pool.maxSize", "10")));
+        config.setMinimumIdle(Integer.parseInt(setting("pool.minIdle", "2")));
+        config.setConnectionTimeout(Long.parseLong(setting("pool.connectionTimeout", "30000")));
+        config.setIdleTimeout(Long.parseLong(setting("pool.idleTimeout", "600000")));
+        config.setMaxLifetime(Long.parseLong(setting("pool.maxLifetime", "1800000")));
+        
+        // Additional settings
+        config.setLeakDetectionThreshold(60000);
+        config.setPoolName(poolName);
+        
+        // Telemetry: acquire/usage histograms and periodic gauge samples, exposed via JMX
+        if (Boolean.parseBoolean(setting("metrics.enabled", "true"))) {
+            config.setMetricsTrackerFactory(new PoolTelemetry(
+                    Long.parseLong(setting("metrics.sampleIntervalMs", "1000")),
+                    Integer.parseInt(setting("metrics.history", "300"))));
+        }
+        
+        poolConfig = config;
+        return config;
+    }
+    
+    private HikariDataSource initializeDataSource() throws SQLException {
+        long start = System.nanoTime();
+        HikariConfig config = loadConfig();
+        HikariDataSource created = new HikariDataSource(config);
+        try {
+            warmUp(created, Math.max(1, config.getMinimumIdle()));
+        } catch (SQLException | RuntimeException e) {
+            created.close();
+            throw e;
+        }
+        logger.info("Connection pool {} ready in {} ms", name,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return created;
+    }
+    
+    /**
+     * Start the adaptive sizing controller when {@code pool.adaptive.enabled} is set.
+     * Bounds default to the minimum idle count and twice the configured maximum pool size.
+     */
+    private AdaptivePoolSizer startAdaptiveSizing(HikariDataSource ds) {
+        if (!Boolean.parseBoolean(setting("pool.adaptive.enabled", "false"))) {
+            return null;
+        }
+        HikariConfig config = loadConfig();
+        try {
+            return new AdaptivePoolSizer(ds,
+                    Integer.parseInt(setting("pool.adaptive.minSize",
+                            String.valueOf(Math.max(1, config.getMinimumIdle())))),
+                    Integer.parseInt(setting("pool.adaptive.maxSize",
+                            String.valueOf(config.getMaximumPoolSize() * 2))),
+                    Long.parseLong(setting("pool.adaptive.intervalMs", "5000")),
+                    Long.parseLong(setting("pool.adaptive.targetAcquireMs", "50")),
+                    Integer.parseInt(setting("pool.adaptive.growAfter", "2")),
+                    Integer.parseInt(setting("pool.adaptive.shrinkAfter", "12")),
+                    Double.parseDouble(setting("pool.adaptive.dbSaturation", "0.9")),
+                    queuedCallers::get);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Adaptive sizing disabled for pool {}: {}", name, e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Build one read-only pool per URL in the {@code replica.urls} setting (comma separated).
+     * Replicas share the primary's credentials and settings unless overridden by the
+     * {@code replica.username}, {@code replica.password} and {@code replica.pool.maxSize} settings.
+     */
+    private List<HikariDataSource> initializeReplicas() {
+        String urls = setting("replica.urls", "").trim();
+        if (urls.isEmpty()) {
+            return Collections.emptyList();
+        }
+        
+        HikariConfig primaryConfig = loadConfig();
+        List<HikariDataSource> created = new ArrayList<>();
+        try {
+            int index = 0;
+            for (String url : urls.split(",")) {
+                if (url.trim().isEmpty()) {
+                    continue;
+                }
+                HikariConfig config = new HikariConfig();
+                primaryConfig.copyStateTo(config);
+                config.setJdbcUrl(url.trim());
+                config.setPoolName(poolName + "-replica-" + (++index));
+                config.setReadOnly(true);
+                if (setting("replica.username", null) != null) {
+                    config.setUsername(setting("replica.username", null));
+                    config.setPassword(setting("replica.password", ""));
+                }
+                if (setting("replica.pool.maxSize", null) != null) {
+                    config.setMaximumPoolSize(Integer.parseInt(setting("replica.pool.maxSize", null)));
+                }
+                
+                // An unreachable replica is skipped rather than failing startup; reads use the others
+                HikariDataSource replica = null;
+                try {
+                    replica = new HikariDataSource(config);
+                    warmUp(replica, Math.max(1, Math.min(config.getMinimumIdle(), config.getMaximumPoolSize())));
+                    created.add(replica);
+                } catch (SQLException | RuntimeException e) {
+                    logger.warn("Skipping read replica {}: {}", url.trim(), e.getMessage());
+                    if (replica != null) {
+                        replica.close();
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            created.forEach(HikariDataSource::close);
+            throw e;
+        }
+        logger.info("Initialized {} read replica pool(s) for {}", created.size(), name);
+        return Collections.unmodifiableList(created);
+    }
+    
+    /**
+     * Open {@code connections} connections in parallel and validate each one, so the pool
+     * holds that many tested connections before the first request arrives.
+     */
+    private static void warmUp(HikariDataSource ds, int connections) throws SQLException {
+        ExecutorService warmers = Executors.newFixedThreadPool(connections, runnable -> {
+            Thread thread = new Thread(runnable, "ConnectionPool-warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        CountDownLatch allOpen = new CountDownLatch(connections);
+        try {
+            List<Future<Void>> opened = new ArrayList<>(connections);
+            for (int i = 0; i < connections; i++) {
+                opened.add(warmers.submit(() -> {
+                    boolean counted = false;
+                    try (Connection conn = ds.getConnection();
+                         Statement stmt = conn.createStatement()) {
+                        stmt.execute(VALIDATION_QUERY);
+                        // Hold the connection until every warmer has one, so each gets a distinct connection
+                        allOpen.countDown();
+                        counted = true;
+                        allOpen.await(ds.getConnectionTimeout(), TimeUnit.MILLISECONDS);
+                    } finally {
+                        if (!counted) {
+                            allOpen.countDown();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<Void> connection : opened) {
+                connection.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while warming up connection pool", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            }
+            throw new SQLException("Connection pool warm-up failed", cause);
+        } finally {
+            warmers.shutdownNow();
+        }
+    }
+    
+    /**
+     * Get a database connection from the connection pool
+     * @return Database connection
+     * @throws SQLException if connection cannot be obtained
+     */
+    public Connection getConnection() throws SQLException {
+        HikariDataSource ds = dataSource;
+        if (ds == null) {
+            ds = awaitDataSource();
+        }
+        return ds.getConnection();
+    }
+    
+    /**
+     * Block until initialization finishes, starting it (or retrying a failed attempt) if needed
+     */
+    private HikariDataSource awaitDataSource() throws SQLException {
+        try {
+            initializeAsync().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for connection pool", e);
+        } catch (ExecutionException e) {
+            throw new SQLException("Connection pool " + name + " is not available", e.getCause());
+        }
+        HikariDataSource ds = dataSource;
+        if (ds == null) {
+            throw new SQLException("Connection pool " + name + " was closed");
+        }
+        return ds;
+    }
+    
+    /**
+     * Get the maximum number of connections the pool will open. While the pool is running this
+     * is its current limit, which adaptive sizing may have changed from the configured value.
+     * @return Maximum pool size
+     */
+    public int getMaximumPoolSize() {
+        HikariDataSource ds = dataSource;
+        return ds != null ? ds.getHikariConfigMXBean().getMaximumPoolSize() : loadConfig().getMaximumPoolSize();
+    }
+    
+    /**
+     * Record callers waiting for this pool outside Hikari, e.g. in a concurrency limit sized to
+     * the pool, so adaptive sizing counts them as threads awaiting a connection
+     * @param delta +1 when a caller starts waiting, -1 when it stops
+     */
+    public void recordQueuedCallers(int delta) {
+        queuedCallers.addAndGet(delta);
+    }
+    
+    /**
+     * Get a connection for read-only work.
+     * Reads go to the replica pools in round-robin order. They go to the primary when no replicas
+     * are configured, when every replica fails, or within the {@code replica.readYourWritesMs} window
+     * of the calling thread's last {@link #markWrite()}, so callers read their own writes.
+     * @return Database connection
+     * @throws SQLException if no connection can be obtained
+     */
+    public Connection getReadConnection() throws SQLException {
+        if (dataSource == null) {
+            awaitDataSource();
+        }
+        List<HikariDataSource> pools = replicas;
+        if (pools.isEmpty() || withinReadYourWritesWindow()) {
+            return getConnection();
+        }
+        
+        int start = Math.floorMod(nextReplica.getAndIncrement(), pools.size());
+        for (int i = 0; i < pools.size(); i++) {
+            HikariDataSource replica = pools.get((start + i) % pools.size());
+            try {
+                return replica.getConnection();
+            } catch (SQLException e) {
+                logger.warn("Read replica {} unavailable: {}", replica.getPoolName(), e.getMessage());
+            }
+        }
+        logger.warn("No read replica available, reading from primary");
+        return getConnection();
+    }
+    
+    /**
+     * Record that the calling thread just wrote data on the primary; its reads stay on the primary
+     * for the read-your-writes window so replication lag is not visible to the writer. Reads from
+     * other threads keep going to the replicas, and so does work the writer hands to another thread.
+     */
+    public void markWrite() {
+        lastWriteNanos.set(System.nanoTime());
+    }
+    
+    boolean withinReadYourWritesWindow() {
+        Long lastWrite = lastWriteNanos.get();
+        if (lastWrite == null) {
+            return false;
+        }
+        if (System.nanoTime() - lastWrite < readYourWritesWindowNanos) {
+            return true;
+        }
+        lastWriteNanos.remove();
+        return false;
+    }
+    
+    /**
+     * Close the pool and its replicas and release all connections.
+     * The pool can be initialized again afterwards.
+     */
+    public synchronized void close() {
+        HikariDataSource ds = dataSource;
+        List<HikariDataSource> readPools = replicas;
+        if (sizer != null) {
+            sizer.close();
+            sizer = null;
+        }
+        dataSource = null;
+        replicas = Collections.emptyList();
+        initialization = null;
+        if (ds != null && !ds.isClosed()) {
+            ds.close();
+        }
+        for (HikariDataSource replica : readPools) {
+            if (!replica.isClosed()) {
+                replica.close();
+            }
+        }
+    }
+    
+    /**
+     * Get information about the connection pool
+     * @return String with pool statistics
+     */
+    public String getPoolInfo() {
+        HikariDataSource ds = dataSource;
+        if (ds != null) {
+            StringBuilder info = new StringBuilder(String.format(
+                    "%s - Active: %d, Idle: %d, Total: %d, Waiting: %d", poolName,
+                    ds.getHikariPoolMXBean().getActiveConnections(),
+                    ds.getHikariPoolMXBean().getIdleConnections(),
+                    ds.getHikariPoolMXBean().getTotalConnections(),
+                    ds.getHikariPoolMXBean().getThreadsAwaitingConnection()));
+            for (HikariDataSource replica : replicas) {
+                info.append(String.format("; %s - Active: %d, Idle: %d, Total: %d, Waiting: %d",
+                        replica.getPoolName(),
+                        replica.getHikariPoolMXBean().getActiveConnections(),
+                        replica.getHikariPoolMXBean().getIdleConnections(),
+                        replica.getHikariPoolMXBean().getTotalConnections(),
+                        replica.getHikariPoolMXBean().getThreadsAwaitingConnection()));
+            }
+            return info.toString();
+        }
+        return poolName + " - not initialized";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,208 @@
+package com.company.employee.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Registry of named connection pools shared by all modules in the JVM.
+ *
+ * Pools are configured in {@code database.properties}. The {@value #DEFAULT_POOL} pool uses the
+ * plain {@code db.*} keys and keeps the Hikari name {@code EmployeeModulePool}. Any other name
+ * reads {@code db.pools.<name>.<key>} first and falls back to {@code db.<key>}, so a module only
+ * overrides what differs, for example:
+ * <pre>
+ * db.pools.vendor.url=jdbc:postgresql://localhost:5432/vendor_db
+ * db.pools.vendor.pool.maxSize=5
+ * </pre>
+ * Modules that should share connections on purpose map their name onto another pool with
+ * {@code db.pools.<name>.shareWith=<other>}; everything else gets an isolated pool.
+ * Pools are created on first use and each has its own lifecycle and stats.
+ */
+public final class ConnectionPoolRegistry {
+    
+    public static final String DEFAULT_POOL = "default";
+    
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionPoolRegistry.class);
+    
+    private static final String DEFAULT_POOL_NAME = "EmployeeModulePool";
+    
+    private static final Map<String, ConnectionPool> pools = new ConcurrentHashMap<>();
+    // Requested name (including shareWith aliases) to the pool it resolved to
+    private static final Map<String, ConnectionPool> lookups = new ConcurrentHashMap<>();
+    private static volatile Properties properties;
+    // Only accessed while holding the class lock
+    private static boolean metricsEndpointAttempted;
+    
+    private ConnectionPoolRegistry() {
+    }
+    
+    /**
+     * Get the default pool
+     * @return Pool configured by the plain db.* keys
+     */
+    public static ConnectionPool getDefault() {
+        return get(DEFAULT_POOL);
+    }
+    
+    /**
+     * Get a pool by name, creating it from configuration on first use.
+     * The pool is not connected until it is initialized or a connection is requested.
+     * @param name Pool name
+     * @return The named pool, or the pool it shares with
+     */
+    public static ConnectionPool get(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("Pool name is required");
+        }
+        ConnectionPool pool = lookups.get(name);
+        return pool != null ? pool : lookup(name);
+    }
+    
+    /**
+     * Resolve a name not looked up before and remember the result
+     */
+    private static synchronized ConnectionPool lookup(String name) {
+        ConnectionPool pool = lookups.get(name);
+        if (pool != null) {
+            return pool;
+        }
+        if (name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Pool name is required");
+        }
+        String target = resolve(name.trim());
+        pool = pools.get(target);
+        if (pool == null) {
+            pool = new ConnectionPool(target,
+                    DEFAULT_POOL.equals(target) ? DEFAULT_POOL_NAME : poolName(target), loadProperties());
+            pools.put(target, pool);
+            startMetricsEndpoint();
+        }
+        lookups.put(name, pool);
+        return pool;
+    }
+    
+    /**
+     * Start the metrics endpoint when the first pool is created. A failed bind is
+     * not retried until {@link #closeAll()}.
+     */
+    private static void startMetricsEndpoint() {
+        if (metricsEndpointAttempted) {
+            return;
+        }
+        metricsEndpointAttempted = true;
+        Properties props = loadProperties();
+        String port = props.getProperty("db.metrics.port", "").trim();
+        if (!port.isEmpty()) {
+            String host = props.getProperty("db.metrics.host", MetricsEndpoint.DEFAULT_HOST).trim();
+            try {
+                MetricsEndpoint.start(host, Integer.parseInt(port));
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Could not start metrics endpoint on {}:{}: {}", host, port, e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * Follow shareWith links to the pool that actually owns the connections
+     */
+    private static String resolve(String name) {
+        Properties props = loadProperties();
+        Set<String> seen = new LinkedHashSet<>();
+        String current = name;
+        while (seen.add(current)) {
+            String shared = props.getProperty("db.pools." + current + ".shareWith");
+            if (shared == null || shared.trim().isEmpty()) {
+                return current;
+            }
+            current = shared.trim();
+        }
+        throw new IllegalStateException("Circular db.pools.*.shareWith configuration: " + seen);
+    }
+    
+    private static String poolName(String name) {
+        String configured = loadProperties().getProperty("db.pools." + name + ".poolName");
+        return configured != null ? configured : Character.toUpperCase(name.charAt(0)) + name.substring(1) + "Pool";
+    }
+    
+    /**
+     * Get the names of all pools created so far
+     * @return Pool names
+     */
+    public static List<String> getPoolNames() {
+        return new ArrayList<>(pools.keySet());
+    }
+    
+    /**
+     * Close a pool and remove it from the registry; it is recreated on next use.
+     * Closing a name that shares another pool closes the shared pool.
+     * @param name Pool name
+     */
+    public static synchronized void close(String name) {
+        ConnectionPool pool = pools.remove(resolve(name));
+        if (pool != null) {
+            lookups.values().removeIf(cached -> cached == pool);
+            pool.close();
+        }
+    }
+    
+    /**
+     * Close every pool in the registry and stop the metrics endpoint
+     */
+    public static synchronized void closeAll() {
+        for (String name : getPoolNames()) {
+            close(name);
+        }
+        MetricsEndpoint.stop();
+        metricsEndpointAttempted = false;
+    }
+    
+    /**
+     * Get statistics for every pool created so far
+     * @return One line per pool
+     */
+    public static String getPoolInfo() {
+        StringBuilder info = new StringBuilder();
+        for (ConnectionPool pool : pools.values()) {
+            if (info.length() > 0) {
+                info.append('\n');
+            }
+            info.append(pool.getName()).append(": ").append(pool.getPoolInfo());
+        }
+        return info.length() > 0 ? info.toString() : "No connection pools created";
+    }
+    
+    private static Properties loadProperties() {
+        Properties props = properties;
+        if (props != null) {
+            return props;
+        }
+        synchronized (ConnectionPoolRegistry.class) {
+            if (properties == null) {
+                Properties loaded = new Properties();
+                
+                // Try to load from properties file, fallback to defaults
+                try (InputStream is = ConnectionPoolRegistry.class.getClassLoader()
+                        .getResourceAsStream("database.properties")) {
+                    if (is != null) {
+                        loaded.load(is);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to load database.properties", e);
+                }
+                properties = loaded;
+            }
+            return properties;
+        }
+    }
+}
@@ -1,61 +1,44 @@
 package com.company.employee.util;
 
-import com.zaxxer.hikari.HikariConfig;
-import com.zaxxer.hikari.HikariDataSource;
-
-import java.io.IOException;
-import java.io.InputStream;
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
 
+/**
+ * Static access to the employee module's connections, backed by the
+ * {@link ConnectionPoolRegistry#DEFAULT_POOL default} pool of {@link ConnectionPoolRegistry}.
+ */
 public class DatabaseConnection {
     
-    private static HikariDataSource dataSource;
+    private static ConnectionPool pool() {
+        return ConnectionPoolRegistry.getDefault();
+    }
     
-    static {
-        try {
-            initializeDataSource();
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to initialize database connection pool", e);
-        }
+    /**
+     * Start building and warming up the connection pool in the background.
+     * Returns the in-progress or completed initialization if there is one; after a
+     * failure (or after {@link #closeDataSource()}) a new attempt is started.
+     * Call this early at startup to overlap pool warm-up with other initialization.
+     * @return Future completed when the pool is ready, or completed exceptionally on failure
+     */
+    public static CompletableFuture<Void> initializeAsync() {
+        return pool().initializeAsync();
+    }
+    
+    /**
+     * Get the readiness signal of the current initialization attempt, starting one if needed
+     * @return Future completed when the pool is ready
+     */
+    public static CompletableFuture<Void> getReadiness() {
+        return pool().getReadiness();
     }
     
-    private static void initializeDataSource() throws IOException {
-        Properties props = new Properties();
-        
-        // Try to load from properties file, fallback to defaults
-        try (InputStream is = DatabaseConnection.class.getClassLoader()
-                .getResourceAsStream("database.properties")) {
-            if (is != null) {
-                props.load(is);
-            }
-        }
-        
-        // Set default values if not found in properties file
-        String jdbcUrl = props.getProperty("db.url", "jdbc:postgresql://localhost:5432/company_db");
-        String username = props.getProperty("db.username", "postgres");
-        String password = props.getProperty("db.password", "password");
-        String driverClassName = props.getProperty("db.driver", "org.postgresql.Driver");
-        
-        HikariConfig config = new HikariConfig();
-        config.setJdbcUrl(jdbcUrl);
-        config.setUsername(username);
-        config.setPassword(password);
-        config.setDriverClassName(driverClassName);
-        
-        // Connection pool settings
-        config.setMaximumPoolSize(Integer.parseInt(props.getProperty("db.pool.maxSize", "10")));
-        config.setMinimumIdle(Integer.parseInt(props.getProperty("db.pool.minIdle", "2")));
-        config.setConnectionTimeout(Long.parseLong(props.getProperty("db.pool.connectionTimeout", "30000")));
-        config.setIdleTimeout(Long.parseLong(props.getProperty("db.pool.idleTimeout", "600000")));
-        config.setMaxLifetime(Long.parseLong(props.getProperty("db.pool.maxLifetime", "1800000")));
-        
-        // Additional settings
-        config.setLeakDetectionThreshold(60000);
-        config.setPoolName("EmployeeModulePool");
-        
-        dataSource = new HikariDataSource(config);
+    /**
+     * Check whether the connection pool is initialized and warmed up
+     * @return true if connections can be obtained without waiting for initialization
+     */
+    public static boolean isReady() {
+        return pool().isReady();
     }
     
     /**
@@ -64,16 +47,48 @@ public class DatabaseConnection {
      * @throws SQLException if connection cannot be obtained
      */
     public static Connection getConnection() throws SQLException {
-        return dataSource.getConnection();
+        return pool().getConnection();
+    }
+    
+    /**
+     * Get a connection for read-only work, from a read replica when one is configured
+     * @return Database connection
+     * @throws SQLException if no connection can be obtained
+     * @see ConnectionPool#getReadConnection()
+     */
+    public static Connection getReadConnection() throws SQLException {
+        return pool().getReadConnection();
+    }
+    
+    /**
+     * Record that the calling thread just wrote data, so its reads stay on the primary for a short window
+     */
+    public static void markWrite() {
+        pool().markWrite();
+    }
+    
+    /**
+     * Get the current maximum number of connections the pool will open
+     * @return Maximum pool size
+     */
+    public static int getMaximumPoolSize() {
+        return pool().getMaximumPoolSize();
+    }
+    
+    /**
+     * Record callers waiting for a connection outside the pool, see
+     * {@link ConnectionPool#recordQueuedCallers(int)}
+     * @param delta +1 when a caller starts waiting, -1 when it stops
+     */
+    public static void recordQueuedCallers(int delta) {
+        pool().recordQueuedCallers(delta);
     }
     
     /**
      * Close the data source and release all connections
      */
     public static void closeDataSource() {
-        if (dataSource != null && !dataSource.isClosed()) {
-            dataSource.close();
-        }
+        pool().close();
     }
     
     /**
@@ -81,13 +96,6 @@ public class DatabaseConnection {
      * @return String with pool statistics
      */
     public static String getPoolInfo() {
-        if (dataSource != null) {
-            return String.format("Pool Info - Active: %d, Idle: %d, Total: %d, Waiting: %d",
-                    dataSource.getHikariPoolMXBean().getActiveConnections(),
-                    dataSource.getHikariPoolMXBean().getIdleConnections(),
-                    dataSource.getHikariPoolMXBean().getTotalConnections(),
-                    dataSource.getHikariPoolMXBean().getThreadsAwaitingConnection());
-        }
-        return "DataSource not initialized";
+        return pool().getPoolInfo();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,155 @@
+package com.company.employee.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram with log-linear buckets.
+ *
+ * Each power of two is split into 8 linear sub-buckets, so percentiles are reported
+ * within 12.5% of the true value while recording stays a single atomic increment.
+ * The maximum is tracked exactly.
+ */
+public class LatencyHistogram {
+    
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+    
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+    
+    /**
+     * Record one observation
+     * @param value Latency in any unit; negative values are recorded as 0
+     */
+    public void record(long value) {
+        long v = Math.max(0, value);
+        counts.incrementAndGet(bucketOf(v));
+        count.incrementAndGet();
+        sum.addAndGet(v);
+        long current;
+        while (v > (current = max.get()) && !max.compareAndSet(current, v)) {
+            // retry until max is at least v
+        }
+    }
+    
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+    }
+    
+    /** Largest value that falls into the given bucket */
+    static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int sub = bucket % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return (1L << exponent) + (sub + 1) * width - 1;
+    }
+    
+    /**
+     * Take a consistent-enough copy of the current counts
+     * @return Snapshot for percentile queries
+     */
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+        }
+        return new Snapshot(copy, count.get(), sum.get(), max.get());
+    }
+    
+    /**
+     * Take a snapshot and clear the histogram, for interval reporting.
+     * Observations recorded concurrently land in either this snapshot or the next.
+     * @return Snapshot of everything recorded since the last reset
+     */
+    public Snapshot snapshotAndReset() {
+        long[] copy = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.getAndSet(i, 0);
+            total += copy[i];
+        }
+        count.addAndGet(-total);
+        return new Snapshot(copy, total, sum.getAndSet(0), max.getAndSet(0));
+    }
+    
+    /**
+     * Immutable view of a histogram
+     */
+    public static class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long max;
+        
+        Snapshot(long[] counts, long count, long sum, long max) {
+            this.counts = counts;
+            this.count = count;
+            this.sum = sum;
+            this.max = max;
+        }
+        
+        /**
+         * Combine several snapshots, e.g. consecutive intervals into one sliding window
+         * @param snapshots Snapshots to combine
+         * @return Snapshot containing every observation of the inputs
+         */
+        public static Snapshot merge(Iterable<Snapshot> snapshots) {
+            long[] merged = new long[BUCKETS];
+            long count = 0;
+            long sum = 0;
+            long max = 0;
+            for (Snapshot snapshot : snapshots) {
+                for (int i = 0; i < BUCKETS; i++) {
+                    merged[i] += snapshot.counts[i];
+                }
+                count += snapshot.count;
+                sum += snapshot.sum;
+                max = Math.max(max, snapshot.max);
+            }
+            return new Snapshot(merged, count, sum, max);
+        }
+        
+        public long getCount() { return count; }
+        public long getMax() { return max; }
+        
+        public double getMean() {
+            return count == 0 ? 0.0 : (double) sum / count;
+        }
+        
+        /**
+         * Get a percentile
+         * @param percentile Percentile between 0 and 100
+         * @return Upper bound of the bucket holding the percentile, capped at the maximum; 0 if empty
+         */
+        public long getPercentile(double percentile) {
+            long observed = 0;
+            for (long c : counts) {
+                observed += c;
+            }
+            if (observed == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(observed * percentile / 100.0));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(upperBoundOf(i), max);
+                }
+            }
+            return max;
+        }
+    }
+}
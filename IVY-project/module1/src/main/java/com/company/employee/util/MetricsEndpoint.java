@@ -0,0 +1,91 @@
+package com.company.employee.util;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Minimal HTTP endpoint serving {@link PoolTelemetry#scrape()} at {@code /metrics}.
+ * Started by {@link ConnectionPoolRegistry} when {@code db.metrics.port} is set. The endpoint has
+ * no authentication, so it listens on loopback unless {@code db.metrics.host} names another
+ * address (for example {@code 0.0.0.0} to let a remote scraper in).
+ */
+public final class MetricsEndpoint {
+    
+    private static final Logger logger = LoggerFactory.getLogger(MetricsEndpoint.class);
+    
+    /** Address the endpoint binds to unless configured otherwise */
+    public static final String DEFAULT_HOST = "127.0.0.1";
+    
+    private static HttpServer server;
+    private static ExecutorService executor;
+    
+    private MetricsEndpoint() {
+    }
+    
+    /**
+     * Start serving metrics on loopback; does nothing if already started
+     * @param port TCP port, or 0 for any free port
+     * @return Port the endpoint listens on
+     * @throws IOException if the port cannot be bound
+     */
+    public static int start(int port) throws IOException {
+        return start(DEFAULT_HOST, port);
+    }
+    
+    /**
+     * Start serving metrics; does nothing if already started
+     * @param host Address to bind to
+     * @param port TCP port, or 0 for any free port
+     * @return Port the endpoint listens on
+     * @throws IOException if the port cannot be bound
+     */
+    public static synchronized int start(String host, int port) throws IOException {
+        if (server != null) {
+            return server.getAddress().getPort();
+        }
+        HttpServer created = HttpServer.create(new InetSocketAddress(host, port), 0);
+        created.createContext("/metrics", exchange -> {
+            try {
+                byte[] body = PoolTelemetry.scrape().getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            } finally {
+                exchange.close();
+            }
+        });
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "MetricsEndpoint");
+            thread.setDaemon(true);
+            return thread;
+        });
+        created.setExecutor(executor);
+        created.start();
+        server = created;
+        logger.info("Serving connection pool metrics on {}:{}", host, created.getAddress().getPort());
+        return created.getAddress().getPort();
+    }
+    
+    /**
+     * Stop serving metrics
+     */
+    public static synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdown();
+            server = null;
+            executor = null;
+        }
+    }
+}
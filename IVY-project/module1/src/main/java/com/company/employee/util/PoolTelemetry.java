@@ -0,0 +1,364 @@
+package com.company.employee.util;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Hikari metrics tracker that keeps connection-pool telemetry in-process.
+ *
+ * For every Hikari pool it records connection acquire time and usage time into
+ * {@link LatencyHistogram}s, and a shared sampler thread records active/idle/total/waiting
+ * counts at a fixed interval into a bounded history. Each sample also closes a latency
+ * interval; percentiles cover the last {@value #WINDOW_INTERVALS} intervals, so they
+ * describe recent load rather than the whole uptime.
+ * Results are published as a {@link PoolTelemetryMXBean} per pool and as Prometheus-style
+ * text via {@link #scrape()} (served over HTTP by {@link MetricsEndpoint}).
+ */
+public class PoolTelemetry implements MetricsTrackerFactory {
+    
+    private static final Logger logger = LoggerFactory.getLogger(PoolTelemetry.class);
+    
+    private static final int WINDOW_INTERVALS = 10;
+    
+    private static final ConcurrentMap<String, PoolMetrics> pools = new ConcurrentHashMap<>();
+    
+    private static ScheduledExecutorService sampler;
+    
+    private final long sampleIntervalMillis;
+    private final int historySize;
+    
+    /**
+     * @param sampleIntervalMillis How often pool gauges are sampled and latency intervals closed
+     * @param historySize Number of samples retained per pool
+     */
+    public PoolTelemetry(long sampleIntervalMillis, int historySize) {
+        if (sampleIntervalMillis <= 0 || historySize <= 0) {
+            throw new IllegalArgumentException("Sample interval and history size must be positive");
+        }
+        this.sampleIntervalMillis = sampleIntervalMillis;
+        this.historySize = historySize;
+    }
+    
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        PoolMetrics metrics = new PoolMetrics(poolName, poolStats, historySize);
+        PoolMetrics previous = pools.put(poolName, metrics);
+        if (previous != null) {
+            previous.close();
+        }
+        metrics.register();
+        metrics.sampling = sampler().scheduleAtFixedRate(metrics::sample,
+                sampleIntervalMillis, sampleIntervalMillis, TimeUnit.MILLISECONDS);
+        return metrics;
+    }
+    
+    private static synchronized ScheduledExecutorService sampler() {
+        if (sampler == null) {
+            sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "PoolTelemetry-sampler");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return sampler;
+    }
+    
+    /**
+     * Get the telemetry of a running Hikari pool
+     * @param poolName Hikari pool name
+     * @return Telemetry, or null if no such pool is being tracked
+     */
+    public static PoolTelemetryMXBean get(String poolName) {
+        return pools.get(poolName);
+    }
+    
+    /**
+     * Get the telemetry of every tracked pool
+     * @return Telemetry per pool
+     */
+    public static Collection<PoolTelemetryMXBean> getAll() {
+        return new ArrayList<>(pools.values());
+    }
+    
+    /**
+     * Render all tracked pools in the Prometheus text exposition format
+     * @return Metrics text
+     */
+    public static String scrape() {
+        StringBuilder out = new StringBuilder(1024);
+        List<PoolMetrics> all = new ArrayList<>(pools.values());
+        gauge(out, all, "db_pool_active_connections", "Connections in use", m -> m.getActiveConnections());
+        gauge(out, all, "db_pool_idle_connections", "Idle connections", m -> m.getIdleConnections());
+        gauge(out, all, "db_pool_total_connections", "Open connections", m -> m.getTotalConnections());
+        gauge(out, all, "db_pool_max_connections", "Maximum pool size", m -> m.getMaxConnections());
+        gauge(out, all, "db_pool_pending_threads", "Threads waiting for a connection",
+                m -> m.getThreadsAwaitingConnection());
+        
+        // Quantiles cover the recent window; _sum and _count are cumulative so rates and means can be derived
+        out.append("# HELP db_pool_acquire_seconds Connection acquire time, quantiles over the recent window\n");
+        out.append("# TYPE db_pool_acquire_seconds summary\n");
+        for (PoolMetrics m : all) {
+            LatencyHistogram.Snapshot s = m.lastAcquire;
+            quantile(out, "db_pool_acquire_seconds", m.poolName, "0.5", s.getPercentile(50) / 1e9);
+            quantile(out, "db_pool_acquire_seconds", m.poolName, "0.99", s.getPercentile(99) / 1e9);
+            quantile(out, "db_pool_acquire_seconds", m.poolName, "1", s.getMax() / 1e9);
+            sum(out, "db_pool_acquire_seconds_sum", m.poolName, m.acquireNanosTotal.get() / 1e9);
+            line(out, "db_pool_acquire_seconds_count", m.poolName, m.acquireCount.get());
+        }
+        out.append("# HELP db_pool_usage_seconds Connection usage time, quantiles over the recent window\n");
+        out.append("# TYPE db_pool_usage_seconds summary\n");
+        for (PoolMetrics m : all) {
+            LatencyHistogram.Snapshot s = m.lastUsage;
+            quantile(out, "db_pool_usage_seconds", m.poolName, "0.5", s.getPercentile(50) / 1e3);
+            quantile(out, "db_pool_usage_seconds", m.poolName, "0.99", s.getPercentile(99) / 1e3);
+            quantile(out, "db_pool_usage_seconds", m.poolName, "1", s.getMax() / 1e3);
+            sum(out, "db_pool_usage_seconds_sum", m.poolName, m.usageMillisTotal.get() / 1e3);
+            line(out, "db_pool_usage_seconds_count", m.poolName, m.usageCount.get());
+        }
+        
+        out.append("# HELP db_pool_timeouts_total Connection requests that timed out\n");
+        out.append("# TYPE db_pool_timeouts_total counter\n");
+        for (PoolMetrics m : all) {
+            line(out, "db_pool_timeouts_total", m.poolName, m.timeouts.get());
+        }
+        out.append("# HELP db_pool_connections_created_total Physical connections opened\n");
+        out.append("# TYPE db_pool_connections_created_total counter\n");
+        for (PoolMetrics m : all) {
+            line(out, "db_pool_connections_created_total", m.poolName, m.created.get());
+        }
+        return out.toString();
+    }
+    
+    private interface IntMetric {
+        int read(PoolMetrics metrics);
+    }
+    
+    private static void gauge(StringBuilder out, List<PoolMetrics> all, String name, String help, IntMetric metric) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(" gauge\n");
+        for (PoolMetrics m : all) {
+            line(out, name, m.poolName, metric.read(m));
+        }
+    }
+    
+    private static void line(StringBuilder out, String name, String pool, long value) {
+        out.append(name).append("{pool=\"").append(pool).append("\"} ").append(value).append('\n');
+    }
+    
+    private static void sum(StringBuilder out, String name, String pool, double value) {
+        out.append(name).append("{pool=\"").append(pool).append("\"} ")
+           .append(String.format(Locale.ROOT, "%.6f", value)).append('\n');
+    }
+    
+    private static void quantile(StringBuilder out, String name, String pool, String quantile, double value) {
+        out.append(name).append("{pool=\"").append(pool).append("\",quantile=\"").append(quantile).append("\"} ")
+           .append(String.format(Locale.ROOT, "%.6f", value)).append('\n');
+    }
+    
+    /**
+     * Telemetry of one Hikari pool; Hikari calls the record methods on its own threads
+     */
+    static final class PoolMetrics implements IMetricsTracker, PoolTelemetryMXBean {
+        private final String poolName;
+        private final PoolStats stats;
+        private final int historySize;
+        private final Deque<long[]> history = new ArrayDeque<>();
+        
+        private final LatencyHistogram acquire = new LatencyHistogram();
+        private final LatencyHistogram usage = new LatencyHistogram();
+        private final Deque<LatencyHistogram.Snapshot> acquireWindow = new ArrayDeque<>();
+        private final Deque<LatencyHistogram.Snapshot> usageWindow = new ArrayDeque<>();
+        private volatile LatencyHistogram.Snapshot lastAcquire = acquire.snapshot();
+        private volatile LatencyHistogram.Snapshot lastUsage = usage.snapshot();
+        
+        private final AtomicLong acquireCount = new AtomicLong();
+        private final AtomicLong acquireNanosTotal = new AtomicLong();
+        private final AtomicLong usageCount = new AtomicLong();
+        private final AtomicLong usageMillisTotal = new AtomicLong();
+        private final AtomicLong timeouts = new AtomicLong();
+        private final AtomicLong created = new AtomicLong();
+        
+        private volatile ObjectName objectName;
+        private volatile ScheduledFuture<?> sampling;
+        
+        PoolMetrics(String poolName, PoolStats stats, int historySize) {
+            this.poolName = poolName;
+            this.stats = stats;
+            this.historySize = historySize;
+        }
+        
+        void register() {
+            try {
+                MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+                ObjectName name = new ObjectName("com.company.employee:type=PoolTelemetry,pool=" + poolName);
+                if (server.isRegistered(name)) {
+                    server.unregisterMBean(name);
+                }
+                server.registerMBean(new StandardMBean(this, PoolTelemetryMXBean.class, true), name);
+                objectName = name;
+            } catch (JMException e) {
+                logger.warn("Could not register pool telemetry MBean for {}: {}", poolName, e.getMessage());
+            }
+        }
+        
+        void sample() {
+            try {
+                long[] sample = {System.currentTimeMillis(), stats.getActiveConnections(),
+                        stats.getIdleConnections(), stats.getTotalConnections(), stats.getPendingThreads()};
+                synchronized (history) {
+                    history.addLast(sample);
+                    while (history.size() > historySize) {
+                        history.removeFirst();
+                    }
+                }
+                lastAcquire = slide(acquireWindow, acquire.snapshotAndReset());
+                lastUsage = slide(usageWindow, usage.snapshotAndReset());
+            } catch (RuntimeException e) {
+                logger.warn("Pool telemetry sample failed for {}: {}", poolName, e.getMessage());
+            }
+        }
+        
+        /** Called only from the sampler thread */
+        private static LatencyHistogram.Snapshot slide(Deque<LatencyHistogram.Snapshot> window,
+                                                      LatencyHistogram.Snapshot interval) {
+            window.addLast(interval);
+            while (window.size() > WINDOW_INTERVALS) {
+                window.removeFirst();
+            }
+            return LatencyHistogram.Snapshot.merge(window);
+        }
+        
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            acquire.record(elapsedAcquiredNanos);
+            acquireCount.incrementAndGet();
+            acquireNanosTotal.addAndGet(Math.max(0, elapsedAcquiredNanos));
+        }
+        
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            usage.record(elapsedBorrowedMillis);
+            usageCount.incrementAndGet();
+            usageMillisTotal.addAndGet(Math.max(0, elapsedBorrowedMillis));
+        }
+        
+        @Override
+        public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+            created.incrementAndGet();
+        }
+        
+        @Override
+        public void recordConnectionTimeout() {
+            timeouts.incrementAndGet();
+        }
+        
+        @Override
+        public void close() {
+            ScheduledFuture<?> task = sampling;
+            if (task != null) {
+                task.cancel(false);
+            }
+            ObjectName name = objectName;
+            if (name != null) {
+                try {
+                    ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+                } catch (JMException e) {
+                    logger.debug("Pool telemetry MBean for {} already unregistered", poolName);
+                }
+            }
+            pools.remove(poolName, this);
+        }
+        
+        @Override
+        public String getPoolName() { return poolName; }
+        
+        @Override
+        public int getActiveConnections() { return stats.getActiveConnections(); }
+        
+        @Override
+        public int getIdleConnections() { return stats.getIdleConnections(); }
+        
+        @Override
+        public int getTotalConnections() { return stats.getTotalConnections(); }
+        
+        @Override
+        public int getThreadsAwaitingConnection() { return stats.getPendingThreads(); }
+        
+        @Override
+        public int getMaxConnections() { return stats.getMaxConnections(); }
+        
+        @Override
+        public int getPeakThreadsAwaitingConnection() {
+            int peak = 0;
+            synchronized (history) {
+                for (long[] sample : history) {
+                    peak = (int) Math.max(peak, sample[4]);
+                }
+            }
+            return peak;
+        }
+        
+        @Override
+        public long getAcquireCount() { return acquireCount.get(); }
+        
+        @Override
+        public double getAcquireP50Micros() { return lastAcquire.getPercentile(50) / 1_000.0; }
+        
+        @Override
+        public double getAcquireP99Micros() { return lastAcquire.getPercentile(99) / 1_000.0; }
+        
+        @Override
+        public double getAcquireMaxMicros() { return lastAcquire.getMax() / 1_000.0; }
+        
+        @Override
+        public long getUsageP50Millis() { return lastUsage.getPercentile(50); }
+        
+        @Override
+        public long getUsageP99Millis() { return lastUsage.getPercentile(99); }
+        
+        @Override
+        public long getUsageMaxMillis() { return lastUsage.getMax(); }
+        
+        @Override
+        public long getConnectionTimeouts() { return timeouts.get(); }
+        
+        @Override
+        public long getConnectionsCreated() { return created.get(); }
+        
+        @Override
+        public String[] getSampleHistory() {
+            synchronized (history) {
+                String[] lines = new String[history.size()];
+                int i = 0;
+                for (long[] sample : history) {
+                    lines[i++] = sample[0] + " " + sample[1] + " " + sample[2] + " " + sample[3] + " " + sample[4];
+                }
+                return lines;
+            }
+        }
+    }
+}
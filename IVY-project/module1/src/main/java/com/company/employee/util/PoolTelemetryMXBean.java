@@ -0,0 +1,45 @@
+package com.company.employee.util;
+
+/**
+ * JMX view of one Hikari pool's telemetry, registered as
+ * {@code com.company.employee:type=PoolTelemetry,pool=<poolName>}.
+ * Gauges are live; latencies cover the last few sampling intervals.
+ */
+public interface PoolTelemetryMXBean {
+    
+    String getPoolName();
+    
+    int getActiveConnections();
+    
+    int getIdleConnections();
+    
+    int getTotalConnections();
+    
+    int getThreadsAwaitingConnection();
+    
+    int getMaxConnections();
+    
+    /** Highest number of waiting threads across the retained samples */
+    int getPeakThreadsAwaitingConnection();
+    
+    long getAcquireCount();
+    
+    double getAcquireP50Micros();
+    
+    double getAcquireP99Micros();
+    
+    double getAcquireMaxMicros();
+    
+    long getUsageP50Millis();
+    
+    long getUsageP99Millis();
+    
+    long getUsageMaxMillis();
+    
+    long getConnectionTimeouts();
+    
+    long getConnectionsCreated();
+    
+    /** Recent samples, oldest first, as "epochMillis active idle total waiting" lines */
+    String[] getSampleHistory();
+}
@@ -0,0 +1,52 @@
+package com.company.employee.util;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+/**
+ * Tests for read routing in {@link ConnectionPool} that need no database
+ */
+public class ConnectionPoolTest {
+    
+    private static ConnectionPool pool(long readYourWritesMs) {
+        Properties properties = new Properties();
+        properties.setProperty("db.replica.readYourWritesMs", String.valueOf(readYourWritesMs));
+        return new ConnectionPool("test", "TestPool", properties);
+    }
+    
+    @Test
+    public void writerReadsFromPrimaryAfterItsWrite() {
+        ConnectionPool pool = pool(60000);
+        assertFalse("No write yet, reads may use replicas", pool.withinReadYourWritesWindow());
+        
+        pool.markWrite();
+        assertTrue("Writer should read its own write from the primary", pool.withinReadYourWritesWindow());
+    }
+    
+    @Test
+    public void writeByOneThreadDoesNotPinReadsOfAnother() throws InterruptedException {
+        ConnectionPool pool = pool(60000);
+        pool.markWrite();
+        
+        AtomicBoolean otherPinned = new AtomicBoolean(true);
+        Thread other = new Thread(() -> otherPinned.set(pool.withinReadYourWritesWindow()));
+        other.start();
+        other.join();
+        
+        assertFalse("Another thread's reads should still use replicas", otherPinned.get());
+        assertTrue("Writer should still be pinned to the primary", pool.withinReadYourWritesWindow());
+    }
+    
+    @Test
+    public void windowExpires() throws InterruptedException {
+        ConnectionPool pool = pool(20);
+        pool.markWrite();
+        Thread.sleep(50);
+        assertFalse("Reads should return to replicas after the window", pool.withinReadYourWritesWindow());
+    }
+}
@@ -0,0 +1,106 @@
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Batched, key-level description of the changes made by one configuration
+ * reload, limited to the prefix a listener registered for.
+ */
+public final class ConfigChangeEvent {
+
+    private final String prefix;
+    private final Map<String, Change> changes;
+
+    ConfigChangeEvent(String prefix, Map<String, Change> changes) {
+        this.prefix = prefix;
+        this.changes = Collections.unmodifiableMap(changes);
+    }
+
+    /**
+     * Gets the prefix the receiving listener registered for.
+     * 
+     * @return the key prefix, empty for all keys
+     */
+    public String getPrefix() {
+        return prefix;
+    }
+
+    /**
+     * Gets all changed keys with their old and new values.
+     * 
+     * @return unmodifiable map of key to change
+     */
+    public Map<String, Change> getChanges() {
+        return changes;
+    }
+
+    /**
+     * Gets the change for a specific key.
+     * 
+     * @param key the configuration key
+     * @return the change, or null if the key did not change
+     */
+    public Change getChange(String key) {
+        return changes.get(key);
+    }
+
+    /**
+     * Checks if a specific key changed.
+     * 
+     * @param key the configuration key
+     * @return true if the key was added, removed or modified
+     */
+    public boolean isChanged(String key) {
+        return changes.containsKey(key);
+    }
+
+    @Override
+    public String toString() {
+        return "ConfigChangeEvent{prefix='" + prefix + "', changes=" + changes.values() + '}';
+    }
+
+    /**
+     * Old and new value of a single key.
+     */
+    public static final class Change {
+        private final String key;
+        private final String oldValue;
+        private final String newValue;
+        private final boolean added;
+        private final boolean removed;
+
+        Change(String key, String oldValue, String newValue, boolean added, boolean removed) {
+            this.key = key;
+            this.oldValue = oldValue;
+            this.newValue = newValue;
+            this.added = added;
+            this.removed = removed;
+        }
+
+        public String getKey() { return key; }
+
+        /**
+         * @return the previous value, or null if the key was added or was a JSON null
+         */
+        public String getOldValue() { return oldValue; }
+
+        /**
+         * @return the new value, or null if the key was removed or is now a JSON null
+         */
+        public String getNewValue() { return newValue; }
+
+        /**
+         * @return true if the key did not exist before; a key that was null is not added
+         */
+        public boolean isAdded() { return added; }
+
+        /**
+         * @return true if the key no longer exists; a key set to null is not removed
+         */
+        public boolean isRemoved() { return removed; }
+
+        @Override
+        public String toString() {
+            return key + ": " + (added ? "(absent)" : oldValue) + " -> " + (removed ? "(absent)" : newValue);
+        }
+    }
+}
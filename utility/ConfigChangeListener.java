@@ -0,0 +1,25 @@
+/**
+ * Callback for configuration changes published by {@link ConfigLoader} and
+ * {@link JsonConfigLoader}.
+ * 
+ * Usage example:
+ * 
+ * <pre>
+ * JsonConfigLoader.getInstance().addChangeListener("database.connection.pool", event -> {
+ *     ConfigChangeEvent.Change maxSize = event.getChange("database.connection.pool.maxSize");
+ *     if (maxSize != null) {
+ *         pool.setMaximumPoolSize(Integer.parseInt(maxSize.getNewValue()));
+ *     }
+ * });
+ * </pre>
+ */
+public interface ConfigChangeListener {
+
+    /**
+     * Called once per reload with every change under the listener's prefix.
+     * Invoked on a background event thread, never on the reloading thread.
+     * 
+     * @param event the batched changes
+     */
+    void onConfigChange(ConfigChangeEvent event);
+}
@@ -0,0 +1,134 @@
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Computes key-level diffs between two flat configuration views and delivers
+ * them to prefix-scoped listeners on a dedicated event thread.
+ * Shared by {@link ConfigLoader} and {@link JsonConfigLoader}.
+ */
+final class ConfigChangeNotifier {
+
+    private static final Logger logger = Logger.getLogger(ConfigChangeNotifier.class.getName());
+
+    private final String threadName;
+    private final CopyOnWriteArrayList<Registration> registrations = new CopyOnWriteArrayList<>();
+    private volatile ExecutorService executor;
+
+    ConfigChangeNotifier(String threadName) {
+        this.threadName = threadName;
+    }
+
+    /**
+     * Registers a listener for all keys equal to or nested under a prefix.
+     * 
+     * @param prefix   dot-notation key prefix, or empty for all keys
+     * @param listener the listener
+     */
+    void addListener(String prefix, ConfigChangeListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        registrations.add(new Registration(prefix == null ? "" : prefix.trim(), listener));
+    }
+
+    /**
+     * Removes every registration of a listener.
+     * 
+     * @param listener the listener
+     */
+    void removeListener(ConfigChangeListener listener) {
+        registrations.removeIf(registration -> registration.listener == listener);
+    }
+
+    boolean hasListeners() {
+        return !registrations.isEmpty();
+    }
+
+    /**
+     * Diffs two configuration views and queues one event per interested
+     * listener. Returns immediately; delivery happens on the event thread.
+     * 
+     * @param oldValues the values before the reload; a key mapped to null exists with a null value
+     * @param newValues the values after the reload; a key mapped to null exists with a null value
+     */
+    void fireChanges(Map<String, String> oldValues, Map<String, String> newValues) {
+        if (registrations.isEmpty()) {
+            return;
+        }
+
+        Set<String> keys = new HashSet<>(oldValues.keySet());
+        keys.addAll(newValues.keySet());
+        Map<String, ConfigChangeEvent.Change> diff = new HashMap<>();
+        for (String key : keys) {
+            boolean existed = oldValues.containsKey(key);
+            boolean exists = newValues.containsKey(key);
+            String oldValue = oldValues.get(key);
+            String newValue = newValues.get(key);
+            if (existed != exists || (oldValue == null ? newValue != null : !oldValue.equals(newValue))) {
+                diff.put(key, new ConfigChangeEvent.Change(key, oldValue, newValue, !existed, !exists));
+            }
+        }
+        if (diff.isEmpty()) {
+            return;
+        }
+
+        for (Registration registration : registrations) {
+            Map<String, ConfigChangeEvent.Change> matching = new HashMap<>();
+            for (Map.Entry<String, ConfigChangeEvent.Change> entry : diff.entrySet()) {
+                if (registration.matches(entry.getKey())) {
+                    matching.put(entry.getKey(), entry.getValue());
+                }
+            }
+            if (!matching.isEmpty()) {
+                ConfigChangeEvent event = new ConfigChangeEvent(registration.prefix, matching);
+                executor().execute(() -> deliver(registration.listener, event));
+            }
+        }
+    }
+
+    private void deliver(ConfigChangeListener listener, ConfigChangeEvent event) {
+        try {
+            listener.onConfigChange(event);
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "Configuration change listener failed for prefix '"
+                    + event.getPrefix() + "'", e);
+        }
+    }
+
+    private ExecutorService executor() {
+        if (executor == null) {
+            synchronized (this) {
+                if (executor == null) {
+                    executor = Executors.newSingleThreadExecutor(r -> {
+                        Thread thread = new Thread(r, threadName);
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                }
+            }
+        }
+        return executor;
+    }
+
+    private static final class Registration {
+        final String prefix;
+        final ConfigChangeListener listener;
+
+        Registration(String prefix, ConfigChangeListener listener) {
+            this.prefix = prefix;
+            this.listener = listener;
+        }
+
+        boolean matches(String key) {
+            return prefix.isEmpty() || key.equals(prefix)
+                    || (key.startsWith(prefix) && key.charAt(prefix.length()) == '.');
+        }
+    }
+}
@@ -0,0 +1,110 @@
+import org.junit.Test;
+import static org.junit.Assert.*;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JUnit 4 test class for the change events shared by ConfigLoader and JsonConfigLoader - Java 8 compatible.
+ */
+public class ConfigChangeNotifierTest {
+
+    private final ConfigChangeNotifier notifier = new ConfigChangeNotifier("ConfigChangeNotifierTest-events");
+
+    @Test
+    public void testModifiedAddedAndRemovedKeys() throws InterruptedException {
+        BlockingQueue<ConfigChangeEvent> events = listen("");
+        notifier.fireChanges(values("a", "1", "b", "2"), values("a", "10", "c", "3"));
+
+        ConfigChangeEvent event = next(events);
+        assertEquals("Three keys should change", 3, event.getChanges().size());
+
+        ConfigChangeEvent.Change modified = event.getChange("a");
+        assertEquals("Old value should be reported", "1", modified.getOldValue());
+        assertEquals("New value should be reported", "10", modified.getNewValue());
+        assertFalse("Modified key should not be added", modified.isAdded());
+        assertFalse("Modified key should not be removed", modified.isRemoved());
+
+        assertTrue("Removed key should be removed", event.getChange("b").isRemoved());
+        assertTrue("New key should be added", event.getChange("c").isAdded());
+    }
+
+    @Test
+    public void testNullValuesAreNotAdditionsOrRemovals() throws InterruptedException {
+        BlockingQueue<ConfigChangeEvent> events = listen("");
+
+        notifier.fireChanges(values("a", "1"), values("a", null));
+        ConfigChangeEvent.Change toNull = next(events).getChange("a");
+        assertNotNull("Setting a key to null should be a change", toNull);
+        assertNull("New value should be null", toNull.getNewValue());
+        assertFalse("Key set to null should not be removed", toNull.isRemoved());
+
+        notifier.fireChanges(values("a", null), values("a", "2"));
+        ConfigChangeEvent.Change fromNull = next(events).getChange("a");
+        assertNull("Old value should be null", fromNull.getOldValue());
+        assertFalse("Key that was null should not be added", fromNull.isAdded());
+
+        notifier.fireChanges(values("a", null), values());
+        assertTrue("Dropping a null key should be a removal", next(events).getChange("a").isRemoved());
+
+        notifier.fireChanges(values(), values("a", null));
+        assertTrue("Adding a null key should be an addition", next(events).getChange("a").isAdded());
+    }
+
+    @Test
+    public void testPrefixScoping() throws InterruptedException {
+        BlockingQueue<ConfigChangeEvent> events = listen("db");
+        notifier.fireChanges(values(), values("db", "x", "db.url", "jdbc:test", "dbx.url", "other", "cache.ttl", "5"));
+
+        ConfigChangeEvent event = next(events);
+        assertEquals("Event should carry the listener's prefix", "db", event.getPrefix());
+        assertTrue("Prefix key itself should match", event.isChanged("db"));
+        assertTrue("Nested key should match", event.isChanged("db.url"));
+        assertFalse("Sibling with the same leading characters should not match", event.isChanged("dbx.url"));
+        assertFalse("Unrelated key should not match", event.isChanged("cache.ttl"));
+    }
+
+    @Test
+    public void testNoEventWithoutMatchingChanges() throws InterruptedException {
+        BlockingQueue<ConfigChangeEvent> events = listen("db");
+        notifier.fireChanges(values("db.url", "a"), values("db.url", "a"));
+        notifier.fireChanges(values(), values("cache.ttl", "5"));
+        notifier.fireChanges(values(), values("db.user", "sa"));
+
+        // Events are delivered in order, so the first one received must come from the last reload
+        assertTrue("Only the reload touching the prefix should notify", next(events).isChanged("db.user"));
+        assertNull("No further events should be delivered", events.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testFailingListenerDoesNotStopOthers() throws InterruptedException {
+        notifier.addListener("", event -> {
+            throw new IllegalStateException("listener failure");
+        });
+        BlockingQueue<ConfigChangeEvent> events = listen("");
+        notifier.fireChanges(values(), values("a", "1"));
+        assertTrue("Later listener should still be notified", next(events).isChanged("a"));
+    }
+
+    private BlockingQueue<ConfigChangeEvent> listen(String prefix) {
+        BlockingQueue<ConfigChangeEvent> events = new LinkedBlockingQueue<>();
+        notifier.addListener(prefix, events::add);
+        return events;
+    }
+
+    private static ConfigChangeEvent next(BlockingQueue<ConfigChangeEvent> events) throws InterruptedException {
+        ConfigChangeEvent event = events.poll(5, TimeUnit.SECONDS);
+        assertNotNull("Event should be delivered", event);
+        return event;
+    }
+
+    private static Map<String, String> values(String... keysAndValues) {
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            values.put(keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return values;
+    }
+}
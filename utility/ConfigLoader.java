@@ -1,6 +1,14 @@
 import java.io.InputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
@@ -10,6 +18,16 @@ import java.util.logging.Level;
  * Supports multiple property files and provides caching for performance.
  * Java 8 compatible implementation.
  * 
+ * Loaded values are published as an immutable {@link Snapshot} whose typed
+ * values are parsed once at load time, so getters perform a single volatile
+ * read and a hash lookup. {@link #reload()} builds a new snapshot off to the
+ * side and swaps it in atomically.
+ * 
+ * The location each file was found at is memoized, so reloads skip the
+ * classloader and file system probing. Set the
+ * {@code config.locationManifest} system property to a file path to persist
+ * those locations across restarts.
+ * 
  * Usage example:
  * 
  * <pre>
@@ -24,16 +42,27 @@ public class ConfigLoader {
     private static final String[] DEFAULT_PROPERTY_FILES = { "db.properties", "app.properties" };
     private static final String[] RESOURCE_PREFIXES = { "", "resources/", "./resources/", "/resources/", "META-INF/",
             "WEB-INF/classes/" };
+    private static final String LOCATION_MANIFEST_PROPERTY = "config.locationManifest";
+    private static final String CLASSPATH_LOCATION = "classpath:";
+    private static final String FILE_LOCATION = "file:";
 
     // Singleton instance
     private static volatile ConfigLoader instance;
 
-    // Instance properties
-    private Properties props;
+    // Current immutable configuration snapshot
+    private volatile Snapshot snapshot;
+
+    // Change listeners notified after each reload
+    private final ConfigChangeNotifier changeNotifier = new ConfigChangeNotifier("ConfigLoader-events");
+
+    // Memoized location of each property file (file name -> classpath:/file: location)
+    private final ConcurrentMap<String, String> resolvedLocations = new ConcurrentHashMap<>();
+    private volatile boolean locationsChanged;
 
     // Prevent instantiation
     private ConfigLoader() {
-        loadConfiguration();
+        loadLocationManifest();
+        this.snapshot = loadConfiguration();
     }
 
     /**
@@ -53,40 +82,147 @@ public class ConfigLoader {
     }
 
     /**
-     * Loads configuration from properties files.
+     * Loads configuration from properties files into a new snapshot.
+     * Files are loaded one after another in {@link #DEFAULT_PROPERTY_FILES}
+     * order, so later files override earlier ones. They are few and small,
+     * so this is cheaper than handing them to worker threads.
+     * 
+     * @return the freshly loaded snapshot
      */
-    private void loadConfiguration() {
-        this.props = new Properties();
+    private Snapshot loadConfiguration() {
+        long start = System.nanoTime();
+        ClassLoader contextLoader = Thread.currentThread().getContextClassLoader();
         try {
+            Properties props = new Properties();
+            List<LoadTiming> timings = new ArrayList<>();
             for (String fileName : DEFAULT_PROPERTY_FILES) {
-                loadFromClasspath(fileName);
+                FileLoad result = loadFile(fileName, contextLoader);
+                props.putAll(result.props);
+                timings.add(result.timing);
             }
-            logger.info("Configuration loaded successfully");
-        } catch (IOException e) {
+            saveLocationManifest();
+
+            long totalNanos = System.nanoTime() - start;
+            logger.info("Configuration loaded successfully in "
+                    + TimeUnit.NANOSECONDS.toMillis(totalNanos) + "ms");
+            return new Snapshot(props, timings, totalNanos);
+        } catch (RuntimeException e) {
             logger.log(Level.SEVERE, "Failed to load configuration", e);
             throw new RuntimeException("Configuration initialization failed", e);
         }
     }
 
     /**
-     * Loads a properties file from classpath.
-     * Tries multiple resource paths to support EAR modules and different deployment
-     * scenarios.
+     * Loads a single properties file, trying its memoized location first and
+     * falling back to the full classpath and file system probe.
      * 
-     * @param fileName the name of the properties file
-     * @throws IOException if file cannot be read
+     * @param fileName      the name of the properties file
+     * @param contextLoader the context classloader of the loading thread
+     * @return the loaded properties with timing details
      */
-    private void loadFromClasspath(String fileName) throws IOException {
-        InputStream inputStream = null;
-        boolean fileLoaded = false;
-
-        // Try multiple classloaders and resource paths
+    private FileLoad loadFile(String fileName, ClassLoader contextLoader) {
+        long start = System.nanoTime();
         ClassLoader[] classLoaders = {
-                Thread.currentThread().getContextClassLoader(),
+                contextLoader,
                 ConfigLoader.class.getClassLoader(),
                 ClassLoader.getSystemClassLoader()
         };
+        Properties props = new Properties();
+        ProbeCounter counter = new ProbeCounter();
+
+        String location = null;
+        boolean fromCache = false;
+        String cached = resolvedLocations.get(fileName);
+        if (cached != null) {
+            if (loadFromLocation(cached, classLoaders, props, counter)) {
+                location = cached;
+                fromCache = true;
+            } else {
+                logger.fine("Cached location no longer valid for " + fileName + ": " + cached);
+                resolvedLocations.remove(fileName);
+                locationsChanged = true;
+                props.clear();
+            }
+        }
+
+        if (location == null) {
+            location = loadFromClasspath(fileName, classLoaders, props, counter);
+        }
+
+        // Try loading from file system as fallback (for local development)
+        if (location == null) {
+            location = tryLoadFromFileSystem(fileName, props, counter);
+        }
 
+        if (location == null) {
+            logger.warning("Properties file not found in any location: " + fileName);
+            // Don't throw exception, just skip missing files for EAR compatibility
+        } else if (!fromCache) {
+            resolvedLocations.put(fileName, location);
+            locationsChanged = true;
+        }
+
+        LoadTiming timing = new LoadTiming(fileName, location, fromCache, counter.probes,
+                System.nanoTime() - start);
+        return new FileLoad(props, timing);
+    }
+
+    /**
+     * Loads a properties file from a previously resolved location.
+     * 
+     * @param location     the location, prefixed with classpath: or file:
+     * @param classLoaders the classloaders to try for classpath locations
+     * @param props        the properties to load into
+     * @param counter      counts the lookups performed
+     * @return true if the file was loaded from the location
+     */
+    private boolean loadFromLocation(String location, ClassLoader[] classLoaders, Properties props,
+            ProbeCounter counter) {
+        if (location.startsWith(CLASSPATH_LOCATION)) {
+            String resourcePath = location.substring(CLASSPATH_LOCATION.length());
+            for (ClassLoader classLoader : classLoaders) {
+                if (classLoader == null)
+                    continue;
+                counter.probes++;
+                try (InputStream inputStream = classLoader.getResourceAsStream(resourcePath)) {
+                    if (inputStream != null) {
+                        props.load(inputStream);
+                        logger.info("Loaded properties from cached location: " + resourcePath);
+                        return true;
+                    }
+                } catch (IOException e) {
+                    logger.warning("Failed to load from cached path: " + resourcePath + " - " + e.getMessage());
+                }
+            }
+        } else if (location.startsWith(FILE_LOCATION)) {
+            java.io.File file = new java.io.File(location.substring(FILE_LOCATION.length()));
+            counter.probes++;
+            if (file.exists() && file.canRead()) {
+                try (java.io.FileInputStream fis = new java.io.FileInputStream(file)) {
+                    props.load(fis);
+                    logger.info("Loaded properties from cached location: " + file.getAbsolutePath());
+                    return true;
+                } catch (IOException e) {
+                    logger.warning("Failed to load from cached path: " + file + " - " + e.getMessage());
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Loads a properties file from classpath.
+     * Tries multiple resource paths to support EAR modules and different deployment
+     * scenarios.
+     * 
+     * @param fileName     the name of the properties file
+     * @param classLoaders the classloaders to try, in order
+     * @param props        the properties to load into
+     * @param counter      counts the lookups performed
+     * @return the resolved location, or null if not found
+     */
+    private String loadFromClasspath(String fileName, ClassLoader[] classLoaders, Properties props,
+            ProbeCounter counter) {
         for (ClassLoader classLoader : classLoaders) {
             if (classLoader == null)
                 continue;
@@ -94,53 +230,32 @@ public class ConfigLoader {
             // Try different resource prefixes
             for (String prefix : RESOURCE_PREFIXES) {
                 String resourcePath = prefix + fileName;
+                counter.probes++;
 
-                try {
-                    inputStream = classLoader.getResourceAsStream(resourcePath);
+                try (InputStream inputStream = classLoader.getResourceAsStream(resourcePath)) {
                     if (inputStream != null) {
                         props.load(inputStream);
                         logger.info("Loaded properties from: " + resourcePath + " using "
                                 + classLoader.getClass().getSimpleName());
-                        fileLoaded = true;
-                        break;
+                        return CLASSPATH_LOCATION + resourcePath;
                     }
                 } catch (IOException e) {
-                    logger.error("Failed to load from path: " + resourcePath + " - " + e.getMessage());
-                } finally {
-                    if (inputStream != null) {
-                        try {
-                            inputStream.close();
-                        } catch (IOException e) {
-                            logger.error("Error closing stream: " + e.getMessage());
-                        }
-                        inputStream = null;
-                    }
+                    logger.warning("Failed to load from path: " + resourcePath + " - " + e.getMessage());
                 }
             }
-
-            if (fileLoaded) {
-                break;
-            }
-        }
-
-        // Try loading from file system as fallback (for local development)
-        if (!fileLoaded) {
-            fileLoaded = tryLoadFromFileSystem(fileName);
-        }
-
-        if (!fileLoaded) {
-            logger.error("Properties file not found in any location: " + fileName);
-            // Don't throw exception, just skip missing files for EAR compatibility
         }
+        return null;
     }
 
     /**
      * Tries to load properties from file system (fallback for local development).
      * 
      * @param fileName the name of the properties file
-     * @return true if file was loaded successfully, false otherwise
+     * @param props    the properties to load into
+     * @param counter  counts the lookups performed
+     * @return the resolved location, or null if not found
      */
-    private boolean tryLoadFromFileSystem(String fileName) {
+    private String tryLoadFromFileSystem(String fileName, Properties props, ProbeCounter counter) {
         String[] localPaths = {
                 fileName,
                 "src/main/resources/" + fileName,
@@ -153,26 +268,73 @@ public class ConfigLoader {
 
         for (String path : localPaths) {
             java.io.File file = new java.io.File(path);
+            counter.probes++;
             if (file.exists() && file.canRead()) {
                 try (java.io.FileInputStream fis = new java.io.FileInputStream(file)) {
                     props.load(fis);
                     logger.info("Loaded properties from file system: " + file.getAbsolutePath());
-                    return true;
+                    return FILE_LOCATION + file.getAbsolutePath();
                 } catch (IOException e) {
-                    logger.error("Failed to load from file system path: " + path + " - " + e.getMessage());
+                    logger.warning("Failed to load from file system path: " + path + " - " + e.getMessage());
                 }
             }
         }
-        return false;
+        return null;
     }
 
     /**
-     * Gets the Properties object.
+     * Seeds the resolved-location cache from the manifest file named by the
+     * {@value #LOCATION_MANIFEST_PROPERTY} system property, if any.
+     */
+    private void loadLocationManifest() {
+        String manifestPath = System.getProperty(LOCATION_MANIFEST_PROPERTY);
+        if (manifestPath == null || manifestPath.trim().isEmpty()) {
+            return;
+        }
+        java.io.File manifest = new java.io.File(manifestPath);
+        if (!manifest.isFile()) {
+            return;
+        }
+        Properties locations = new Properties();
+        try (java.io.FileInputStream fis = new java.io.FileInputStream(manifest)) {
+            locations.load(fis);
+            for (String fileName : locations.stringPropertyNames()) {
+                resolvedLocations.put(fileName, locations.getProperty(fileName));
+            }
+            logger.fine("Loaded " + locations.size() + " cached config locations from " + manifestPath);
+        } catch (IOException e) {
+            logger.warning("Failed to read config location manifest: " + manifestPath + " - " + e.getMessage());
+        }
+    }
+
+    /**
+     * Persists the resolved-location cache to the manifest file if one is
+     * configured and any location changed during the last load.
+     */
+    private void saveLocationManifest() {
+        String manifestPath = System.getProperty(LOCATION_MANIFEST_PROPERTY);
+        if (!locationsChanged || manifestPath == null || manifestPath.trim().isEmpty()) {
+            return;
+        }
+        Properties locations = new Properties();
+        locations.putAll(resolvedLocations);
+        try (java.io.FileOutputStream fos = new java.io.FileOutputStream(manifestPath)) {
+            locations.store(fos, "Resolved ConfigLoader locations");
+            locationsChanged = false;
+        } catch (IOException e) {
+            logger.warning("Failed to write config location manifest: " + manifestPath + " - " + e.getMessage());
+        }
+    }
+
+    /**
+     * Gets a copy of the currently loaded properties.
      * 
-     * @return the Properties object
+     * @return a Properties object detached from the live configuration
      */
     public Properties getProperties() {
-        return props;
+        Properties copy = new Properties();
+        copy.putAll(snapshot.values);
+        return copy;
     }
 
     /**
@@ -185,7 +347,20 @@ public class ConfigLoader {
         if (key == null || key.trim().isEmpty()) {
             throw new IllegalArgumentException("Property key cannot be null or empty");
         }
-        return props.getProperty(key);
+        return snapshot.values.get(key);
+    }
+
+    /**
+     * Looks up the pre-parsed entry for a key in the current snapshot.
+     * 
+     * @param key the property key
+     * @return the entry, or null if not found
+     */
+    private ConfigValue entry(String key) {
+        if (key == null || key.trim().isEmpty()) {
+            throw new IllegalArgumentException("Property key cannot be null or empty");
+        }
+        return snapshot.entries.get(key);
     }
 
     /**
@@ -208,13 +383,15 @@ public class ConfigLoader {
      * @return the integer property value or default value
      */
     public int getInt(String key, int defaultValue) {
-        try {
-            String value = get(key);
-            return value != null ? Integer.parseInt(value.trim()) : defaultValue;
-        } catch (NumberFormatException e) {
-            logger.error("Invalid integer value for key '" + key + "': " + get(key));
+        ConfigValue entry = entry(key);
+        if (entry == null) {
+            return defaultValue;
+        }
+        if (!entry.validInt) {
+            logger.warning("Invalid integer value for key '" + key + "': " + entry.raw);
             return defaultValue;
         }
+        return entry.intValue;
     }
 
     /**
@@ -225,11 +402,8 @@ public class ConfigLoader {
      * @return the boolean property value or default value
      */
     public boolean getBoolean(String key, boolean defaultValue) {
-        String value = get(key);
-        if (value == null) {
-            return defaultValue;
-        }
-        return "true".equalsIgnoreCase(value.trim()) || "1".equals(value.trim());
+        ConfigValue entry = entry(key);
+        return entry != null ? entry.booleanValue : defaultValue;
     }
 
     /**
@@ -240,13 +414,15 @@ public class ConfigLoader {
      * @return the long property value or default value
      */
     public long getLong(String key, long defaultValue) {
-        try {
-            String value = get(key);
-            return value != null ? Long.parseLong(value.trim()) : defaultValue;
-        } catch (NumberFormatException e) {
-            logger.error("Invalid long value for key '" + key + "': " + get(key));
+        ConfigValue entry = entry(key);
+        if (entry == null) {
             return defaultValue;
         }
+        if (!entry.validLong) {
+            logger.warning("Invalid long value for key '" + key + "': " + entry.raw);
+            return defaultValue;
+        }
+        return entry.longValue;
     }
 
     /**
@@ -257,13 +433,15 @@ public class ConfigLoader {
      * @return the double property value or default value
      */
     public double getDouble(String key, double defaultValue) {
-        try {
-            String value = get(key);
-            return value != null ? Double.parseDouble(value.trim()) : defaultValue;
-        } catch (NumberFormatException e) {
-            logger.error("Invalid double value for key '" + key + "': " + get(key));
+        ConfigValue entry = entry(key);
+        if (entry == null) {
+            return defaultValue;
+        }
+        if (!entry.validDouble) {
+            logger.warning("Invalid double value for key '" + key + "': " + entry.raw);
             return defaultValue;
         }
+        return entry.doubleValue;
     }
 
     /**
@@ -276,15 +454,19 @@ public class ConfigLoader {
         if (key == null || key.trim().isEmpty()) {
             return false;
         }
-        return props.containsKey(key);
+        return snapshot.values.containsKey(key);
     }
 
     /**
      * Reloads the configuration from classpath.
+     * The new snapshot is fully built before it replaces the current one, so
+     * concurrent readers never observe a partially loaded configuration.
      */
     public synchronized void reload() {
         try {
-            loadConfiguration();
+            Snapshot previous = this.snapshot;
+            this.snapshot = loadConfiguration();
+            changeNotifier.fireChanges(previous.values, snapshot.values);
             logger.info("Configuration reloaded successfully");
         } catch (Exception e) {
             logger.log(Level.SEVERE, "Failed to reload configuration", e);
@@ -292,6 +474,27 @@ public class ConfigLoader {
         }
     }
 
+    /**
+     * Registers a listener for changes to keys equal to or nested under a
+     * prefix (e.g. "db.pool"). The listener receives one batched event per
+     * reload that changed a matching key, on a background event thread.
+     * 
+     * @param prefix   the key prefix, or empty for all keys
+     * @param listener the listener to notify
+     */
+    public void addChangeListener(String prefix, ConfigChangeListener listener) {
+        changeNotifier.addListener(prefix, listener);
+    }
+
+    /**
+     * Removes a previously registered change listener.
+     * 
+     * @param listener the listener to remove
+     */
+    public void removeChangeListener(ConfigChangeListener listener) {
+        changeNotifier.removeListener(listener);
+    }
+
     /**
      * Gets detailed information about loaded configuration files.
      * Useful for debugging configuration loading issues in EAR deployments.
@@ -303,14 +506,26 @@ public class ConfigLoader {
         info.append("ConfigLoader Information:\n");
         info.append("========================\n");
         info.append("Property files to load: ").append(java.util.Arrays.toString(DEFAULT_PROPERTY_FILES)).append("\n");
-        info.append("Total properties loaded: ").append(props.size()).append("\n");
+        info.append("Total properties loaded: ").append(snapshot.values.size()).append("\n");
+
+        // Show where each file was found and how long it took
+        Snapshot current = snapshot;
+        info.append("Load time: ").append(formatMillis(current.loadNanos)).append("\n");
+        info.append("Load timings:\n");
+        for (LoadTiming timing : current.timings) {
+            info.append("  ").append(timing).append("\n");
+        }
 
         // Show classloader hierarchy
         info.append("ClassLoader hierarchy:\n");
         ClassLoader cl = Thread.currentThread().getContextClassLoader();
         int level = 0;
         while (cl != null && level < 5) {
-            info.append("  ").append("  ".repeat(level)).append(cl.getClass().getName()).append("\n");
+            info.append("  ");
+            for (int i = 0; i < level; i++) {
+                info.append("  ");
+            }
+            info.append(cl.getClass().getName()).append("\n");
             cl = cl.getParent();
             level++;
         }
@@ -326,6 +541,28 @@ public class ConfigLoader {
         return info.toString();
     }
 
+    /**
+     * Gets the per-file load timings of the current configuration.
+     * 
+     * @return unmodifiable list in {@link #DEFAULT_PROPERTY_FILES} order
+     */
+    public List<LoadTiming> getLoadTimings() {
+        return snapshot.timings;
+    }
+
+    /**
+     * Gets the total wall-clock time of the last configuration load.
+     * 
+     * @return the load time in nanoseconds
+     */
+    public long getLoadTimeNanos() {
+        return snapshot.loadNanos;
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format("%.2fms", nanos / 1_000_000.0);
+    }
+
     /**
      * Tests if a specific resource can be found using current configuration.
      * 
@@ -359,4 +596,94 @@ public class ConfigLoader {
 
         return false;
     }
+
+    /**
+     * Immutable view of one loaded configuration, with every value parsed
+     * into its typed forms up front.
+     */
+    private static final class Snapshot {
+        final Map<String, String> values;
+        final Map<String, ConfigValue> entries;
+        final List<LoadTiming> timings;
+        final long loadNanos;
+
+        Snapshot(Properties props, List<LoadTiming> timings, long loadNanos) {
+            this.timings = Collections.unmodifiableList(new ArrayList<>(timings));
+            this.loadNanos = loadNanos;
+            Map<String, String> values = new HashMap<>();
+            Map<String, ConfigValue> entries = new HashMap<>();
+            for (String key : props.stringPropertyNames()) {
+                String value = props.getProperty(key);
+                values.put(key, value);
+                entries.put(key, new ConfigValue(value));
+            }
+            this.values = Collections.unmodifiableMap(values);
+            this.entries = Collections.unmodifiableMap(entries);
+        }
+    }
+
+    /**
+     * Timing and resolution details for loading one property file.
+     */
+    public static final class LoadTiming {
+        private final String fileName;
+        private final String location;
+        private final boolean fromCache;
+        private final int probes;
+        private final long durationNanos;
+
+        LoadTiming(String fileName, String location, boolean fromCache, int probes, long durationNanos) {
+            this.fileName = fileName;
+            this.location = location;
+            this.fromCache = fromCache;
+            this.probes = probes;
+            this.durationNanos = durationNanos;
+        }
+
+        public String getFileName() { return fileName; }
+
+        /**
+         * @return the resolved location (classpath: or file:), or null if not found
+         */
+        public String getLocation() { return location; }
+
+        /**
+         * @return true if the memoized location was used
+         */
+        public boolean isFromCache() { return fromCache; }
+
+        /**
+         * @return the number of resource and file lookups performed
+         */
+        public int getProbes() { return probes; }
+
+        public long getDurationNanos() { return durationNanos; }
+
+        @Override
+        public String toString() {
+            return fileName + " -> " + (location != null ? location : "not found")
+                    + " (" + formatMillis(durationNanos) + ", " + probes + " probes"
+                    + (fromCache ? ", cached location" : "") + ")";
+        }
+    }
+
+    /**
+     * Properties and timing produced by loading one file.
+     */
+    private static final class FileLoad {
+        final Properties props;
+        final LoadTiming timing;
+
+        FileLoad(Properties props, LoadTiming timing) {
+            this.props = props;
+            this.timing = timing;
+        }
+    }
+
+    /**
+     * Mutable lookup counter for a single file load.
+     */
+    private static final class ProbeCounter {
+        int probes;
+    }
 }
@@ -0,0 +1,353 @@
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * Persists the file-backed layers of {@link LayeredConfig} as a compact
+ * binary snapshot, so the next start can serve lookups before
+ * {@link ConfigLoader} and {@link JsonConfigLoader} have probed and parsed
+ * their sources.
+ * 
+ * The snapshot records a fingerprint (length, modification time and CRC32)
+ * of every source file. On startup it is memory-mapped and accepted if each
+ * file source still has the same length and modification time and each
+ * classpath source the same checksum.
+ * 
+ * The snapshot holds every value in plain text, including credentials, so
+ * it is created readable by its owner only (on POSIX file systems); keep
+ * the snapshot directory private as well.
+ * 
+ * Layout (big-endian):
+ * 
+ * <pre>
+ * int    magic 'CFGS', int version
+ * int    sourceCount, then per source: str location, long length, long modified, long crc
+ * int    keyCount,    then per key:    str key, byte layerCount, then per layer: byte source, str value
+ * str  = int byteLength + UTF-8 bytes
+ * </pre>
+ */
+final class ConfigSnapshotStore {
+
+    private static final Logger logger = Logger.getLogger(ConfigSnapshotStore.class.getName());
+
+    static final String SNAPSHOT_DIR_PROPERTY = "config.snapshotDir";
+    private static final String SNAPSHOT_FILE = "layered-config.snapshot";
+    private static final int MAGIC = 0x43464753; // "CFGS"
+    private static final int VERSION = 1;
+    private static final String[] SOURCE_CODES = { LayeredConfig.SOURCE_JSON, LayeredConfig.SOURCE_PROPERTIES };
+    private static final String CLASSPATH_LOCATION = "classpath:";
+    private static final String FILE_LOCATION = "file:";
+
+    private final File snapshotFile;
+
+    private ConfigSnapshotStore(File snapshotFile) {
+        this.snapshotFile = snapshotFile;
+    }
+
+    /**
+     * Creates a store in the directory named by the {@value #SNAPSHOT_DIR_PROPERTY}
+     * system property.
+     * 
+     * @return the store, or null if snapshots are not enabled
+     */
+    static ConfigSnapshotStore fromSystemProperty() {
+        String dir = System.getProperty(SNAPSHOT_DIR_PROPERTY);
+        if (dir == null || dir.trim().isEmpty()) {
+            return null;
+        }
+        return new ConfigSnapshotStore(new File(dir.trim(), SNAPSHOT_FILE));
+    }
+
+    File getSnapshotFile() {
+        return snapshotFile;
+    }
+
+    /**
+     * Loads the snapshot if its sources look unchanged.
+     * 
+     * @return the snapshot, or null if missing, unreadable or stale
+     */
+    Snapshot loadIfFresh() {
+        if (!snapshotFile.isFile()) {
+            return null;
+        }
+        try {
+            Snapshot snapshot = read();
+            for (Fingerprint source : snapshot.sources) {
+                if (!source.quickMatches()) {
+                    logger.info("Configuration snapshot is stale, source changed: " + source.location);
+                    return null;
+                }
+            }
+            return snapshot;
+        } catch (IOException | RuntimeException e) {
+            logger.log(Level.WARNING, "Ignoring unreadable configuration snapshot: " + snapshotFile, e);
+            return null;
+        }
+    }
+
+    private Snapshot read() throws IOException {
+        ByteBuffer buffer;
+        try (RandomAccessFile raf = new RandomAccessFile(snapshotFile, "r");
+                FileChannel channel = raf.getChannel()) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        try {
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("Unsupported snapshot format");
+            }
+
+            int sourceCount = buffer.getInt();
+            List<Fingerprint> sources = new ArrayList<>(sourceCount);
+            for (int i = 0; i < sourceCount; i++) {
+                sources.add(new Fingerprint(readString(buffer), buffer.getLong(), buffer.getLong(), buffer.getLong()));
+            }
+
+            int keyCount = buffer.getInt();
+            Map<String, List<LayeredConfig.Layer>> layers = new HashMap<>(keyCount * 4 / 3 + 1);
+            for (int i = 0; i < keyCount; i++) {
+                String key = readString(buffer);
+                int layerCount = buffer.get();
+                List<LayeredConfig.Layer> keyLayers = new ArrayList<>(layerCount + 1);
+                for (int j = 0; j < layerCount; j++) {
+                    String source = SOURCE_CODES[buffer.get()];
+                    keyLayers.add(new LayeredConfig.Layer(source, readString(buffer)));
+                }
+                layers.put(key, keyLayers);
+            }
+            return new Snapshot(sources, layers);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("Truncated or corrupt snapshot", e);
+        }
+    }
+
+    /**
+     * Atomically writes a snapshot of the given file-backed layers.
+     * 
+     * @param sources the source fingerprints
+     * @param layers  key to layers (json/properties only), highest precedence first
+     */
+    void save(List<Fingerprint> sources, Map<String, List<LayeredConfig.Layer>> layers) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(8192);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(sources.size());
+            for (Fingerprint source : sources) {
+                writeString(out, source.location);
+                out.writeLong(source.length);
+                out.writeLong(source.modified);
+                out.writeLong(source.crc);
+            }
+            out.writeInt(layers.size());
+            for (Map.Entry<String, List<LayeredConfig.Layer>> entry : layers.entrySet()) {
+                writeString(out, entry.getKey());
+                out.writeByte(entry.getValue().size());
+                for (LayeredConfig.Layer layer : entry.getValue()) {
+                    out.writeByte(sourceCode(layer.source));
+                    writeString(out, layer.value);
+                }
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to encode configuration snapshot", e);
+            return;
+        }
+
+        File dir = snapshotFile.getAbsoluteFile().getParentFile();
+        try {
+            if (!dir.isDirectory() && !dir.mkdirs()) {
+                throw new IOException("Cannot create snapshot directory: " + dir);
+            }
+            // Values include passwords and secrets; on POSIX the temp file is readable by
+            // the owner only, and the snapshot keeps those permissions after the move
+            Path temp = Files.createTempFile(dir.toPath(), SNAPSHOT_FILE, ".tmp");
+            try {
+                try (OutputStream os = Files.newOutputStream(temp)) {
+                    bytes.writeTo(os);
+                }
+                try {
+                    Files.move(temp, snapshotFile.toPath(), StandardCopyOption.ATOMIC_MOVE,
+                            StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            logger.fine("Wrote configuration snapshot (" + bytes.size() + " bytes): " + snapshotFile);
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to write configuration snapshot: " + snapshotFile, e);
+        }
+    }
+
+    private static int sourceCode(String source) {
+        for (int i = 0; i < SOURCE_CODES.length; i++) {
+            if (SOURCE_CODES[i].equals(source)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Source cannot be persisted: " + source);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Decoded snapshot contents.
+     */
+    static final class Snapshot {
+        final List<Fingerprint> sources;
+        final Map<String, List<LayeredConfig.Layer>> layers;
+
+        Snapshot(List<Fingerprint> sources, Map<String, List<LayeredConfig.Layer>> layers) {
+            this.sources = Collections.unmodifiableList(sources);
+            this.layers = layers;
+        }
+    }
+
+    /**
+     * Identity of one configuration source at the time it was read.
+     */
+    static final class Fingerprint {
+        final String location;
+        final long length;
+        final long modified;
+        final long crc;
+
+        Fingerprint(String location, long length, long modified, long crc) {
+            this.location = location;
+            this.length = length;
+            this.modified = modified;
+            this.crc = crc;
+        }
+
+        /**
+         * Computes the current fingerprint of a classpath: or file: location.
+         * Missing sources get a length of -1.
+         * 
+         * @param location the source location
+         * @return the fingerprint
+         */
+        static Fingerprint of(String location) {
+            if (location.startsWith(FILE_LOCATION)) {
+                File file = new File(location.substring(FILE_LOCATION.length()));
+                if (!file.isFile()) {
+                    return new Fingerprint(location, -1L, 0L, 0L);
+                }
+                try (InputStream in = new FileInputStream(file)) {
+                    return new Fingerprint(location, file.length(), file.lastModified(), checksum(in));
+                } catch (IOException e) {
+                    return new Fingerprint(location, -1L, 0L, 0L);
+                }
+            }
+
+            String resource = location.startsWith(CLASSPATH_LOCATION)
+                    ? location.substring(CLASSPATH_LOCATION.length())
+                    : location;
+            ClassLoader[] classLoaders = {
+                    Thread.currentThread().getContextClassLoader(),
+                    ConfigSnapshotStore.class.getClassLoader()
+            };
+            for (ClassLoader classLoader : classLoaders) {
+                if (classLoader == null)
+                    continue;
+                try (InputStream in = classLoader.getResourceAsStream(resource)) {
+                    if (in != null) {
+                        CountingCrc crc = new CountingCrc();
+                        crc.update(in);
+                        return new Fingerprint(location, crc.length, 0L, crc.crc.getValue());
+                    }
+                } catch (IOException e) {
+                    // Try the next classloader
+                }
+            }
+            return new Fingerprint(location, -1L, 0L, 0L);
+        }
+
+        /**
+         * Cheap freshness check: length and modification time for files, a
+         * checksum for classpath resources (which cannot be stat'ed).
+         * 
+         * @return true if the source appears unchanged
+         */
+        boolean quickMatches() {
+            if (location.startsWith(FILE_LOCATION)) {
+                File file = new File(location.substring(FILE_LOCATION.length()));
+                if (!file.isFile()) {
+                    return length == -1L;
+                }
+                return file.length() == length && file.lastModified() == modified;
+            }
+            return equals(of(location));
+        }
+
+        private static long checksum(InputStream in) throws IOException {
+            CountingCrc crc = new CountingCrc();
+            crc.update(in);
+            return crc.crc.getValue();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Fingerprint)) {
+                return false;
+            }
+            Fingerprint other = (Fingerprint) o;
+            return location.equals(other.location) && length == other.length
+                    && modified == other.modified && crc == other.crc;
+        }
+
+        @Override
+        public int hashCode() {
+            return location.hashCode() * 31 + (int) (crc ^ (crc >>> 32));
+        }
+    }
+
+    /**
+     * CRC32 over a stream, also counting its length.
+     */
+    private static final class CountingCrc {
+        final CRC32 crc = new CRC32();
+        long length;
+
+        void update(InputStream in) throws IOException {
+            byte[] chunk = new byte[8192];
+            int read;
+            while ((read = in.read(chunk)) != -1) {
+                crc.update(chunk, 0, read);
+                length += read;
+            }
+        }
+    }
+}
@@ -0,0 +1,159 @@
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JUnit 4 test class for ConfigSnapshotStore persistence and invalidation - Java 8 compatible.
+ */
+public class ConfigSnapshotStoreTest {
+
+    private File dir;
+    private File source;
+    private ConfigSnapshotStore store;
+
+    @Before
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("config-snapshot").toFile();
+        source = new File(dir, "app.properties");
+        Files.write(source.toPath(), "database.url=jdbc:test\n".getBytes(StandardCharsets.UTF_8));
+        System.setProperty(ConfigSnapshotStore.SNAPSHOT_DIR_PROPERTY, dir.getPath());
+        store = ConfigSnapshotStore.fromSystemProperty();
+    }
+
+    @After
+    public void tearDown() {
+        System.clearProperty(ConfigSnapshotStore.SNAPSHOT_DIR_PROPERTY);
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        dir.delete();
+    }
+
+    @Test
+    public void testDisabledWithoutDirectory() {
+        System.clearProperty(ConfigSnapshotStore.SNAPSHOT_DIR_PROPERTY);
+        assertNull("Store should be disabled without a directory", ConfigSnapshotStore.fromSystemProperty());
+    }
+
+    @Test
+    public void testRoundTrip() {
+        Map<String, List<LayeredConfig.Layer>> layers = new HashMap<>();
+        layers.put("database.url", Arrays.asList(
+                new LayeredConfig.Layer(LayeredConfig.SOURCE_JSON, "jdbc:json"),
+                new LayeredConfig.Layer(LayeredConfig.SOURCE_PROPERTIES, "jdbc:test")));
+        layers.put("application.name", Collections.singletonList(
+                new LayeredConfig.Layer(LayeredConfig.SOURCE_JSON, "Anwendung \u00fc\u00df \u2713")));
+        layers.put("empty", Collections.singletonList(
+                new LayeredConfig.Layer(LayeredConfig.SOURCE_PROPERTIES, "")));
+        List<ConfigSnapshotStore.Fingerprint> sources = fingerprints();
+
+        assertNull("Nothing should load before a snapshot is saved", store.loadIfFresh());
+        store.save(sources, layers);
+        assertTrue("Snapshot file should exist", store.getSnapshotFile().isFile());
+
+        ConfigSnapshotStore.Snapshot snapshot = store.loadIfFresh();
+        assertNotNull("Fresh snapshot should load", snapshot);
+        assertEquals("Sources should round-trip", sources, snapshot.sources);
+        assertEquals("Every key should round-trip", layers.keySet(), snapshot.layers.keySet());
+        for (Map.Entry<String, List<LayeredConfig.Layer>> entry : layers.entrySet()) {
+            List<LayeredConfig.Layer> loaded = snapshot.layers.get(entry.getKey());
+            assertEquals("Layer count should match for " + entry.getKey(), entry.getValue().size(), loaded.size());
+            for (int i = 0; i < loaded.size(); i++) {
+                assertEquals("Layer source should match", entry.getValue().get(i).source, loaded.get(i).source);
+                assertEquals("Layer value should match", entry.getValue().get(i).value, loaded.get(i).value);
+            }
+        }
+    }
+
+    @Test
+    public void testChangedSourceInvalidatesSnapshot() throws IOException {
+        store.save(fingerprints(), singleKey());
+        assertNotNull("Snapshot should be fresh before the change", store.loadIfFresh());
+
+        Files.write(source.toPath(), "database.user=sa\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        assertNull("Changed source should invalidate the snapshot", store.loadIfFresh());
+    }
+
+    @Test
+    public void testMissingSourceStaysFreshUntilCreated() throws IOException {
+        File missing = new File(dir, "missing.json");
+        List<ConfigSnapshotStore.Fingerprint> sources = new ArrayList<>(fingerprints());
+        sources.add(ConfigSnapshotStore.Fingerprint.of("file:" + missing.getPath()));
+        store.save(sources, singleKey());
+        assertNotNull("Source that is still missing should not invalidate the snapshot", store.loadIfFresh());
+
+        Files.write(missing.toPath(), "{}".getBytes(StandardCharsets.UTF_8));
+        assertNull("Source that appeared should invalidate the snapshot", store.loadIfFresh());
+    }
+
+    @Test
+    public void testCorruptSnapshotIsIgnored() throws IOException {
+        store.save(fingerprints(), singleKey());
+        try (RandomAccessFile raf = new RandomAccessFile(store.getSnapshotFile(), "rw")) {
+            raf.setLength(raf.length() - 3);
+        }
+        assertNull("Truncated snapshot should be ignored", store.loadIfFresh());
+
+        Files.write(store.getSnapshotFile().toPath(), "not a snapshot".getBytes(StandardCharsets.UTF_8));
+        assertNull("Snapshot with a bad header should be ignored", store.loadIfFresh());
+    }
+
+    @Test
+    public void testSnapshotIsOwnerOnly() throws IOException {
+        assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+        store.save(fingerprints(), singleKey());
+        assertEquals("Snapshot should be readable by its owner only",
+                PosixFilePermissions.fromString("rw-------"),
+                Files.getPosixFilePermissions(store.getSnapshotFile().toPath()));
+    }
+
+    @Test
+    public void testFailedWriteLeavesNoTempFile() throws IOException {
+        // A non-empty directory at the snapshot path makes the final move fail
+        File blocker = store.getSnapshotFile();
+        assertTrue("Blocking directory should be created", blocker.mkdir());
+        File child = new File(blocker, "keep");
+        Files.write(child.toPath(), new byte[0]);
+        try {
+            store.save(fingerprints(), singleKey());
+            String[] names = dir.list();
+            assertNotNull("Snapshot directory should be listable", names);
+            for (String name : names) {
+                assertFalse("Temp file should be removed after a failed write: " + name, name.endsWith(".tmp"));
+            }
+        } finally {
+            child.delete();
+            blocker.delete();
+        }
+    }
+
+    private List<ConfigSnapshotStore.Fingerprint> fingerprints() {
+        return Collections.singletonList(ConfigSnapshotStore.Fingerprint.of("file:" + source.getPath()));
+    }
+
+    private static Map<String, List<LayeredConfig.Layer>> singleKey() {
+        Map<String, List<LayeredConfig.Layer>> layers = new HashMap<>();
+        layers.put("database.url", Collections.singletonList(
+                new LayeredConfig.Layer(LayeredConfig.SOURCE_PROPERTIES, "jdbc:test")));
+        return layers;
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * A single configuration value with its pre-parsed primitive
+ * representations, so typed getters never parse on the lookup path.
+ * Shared by {@link ConfigLoader} and {@link LayeredConfig}.
+ */
+final class ConfigValue {
+    final String raw;
+    final boolean booleanValue;
+    final boolean validInt;
+    final int intValue;
+    final boolean validLong;
+    final long longValue;
+    final boolean validDouble;
+    final double doubleValue;
+
+    ConfigValue(String raw) {
+        this.raw = raw;
+        String trimmed = raw.trim();
+        this.booleanValue = "true".equalsIgnoreCase(trimmed) || "1".equals(trimmed);
+
+        int parsedInt = 0;
+        boolean intOk = false;
+        try {
+            parsedInt = Integer.parseInt(trimmed);
+            intOk = true;
+        } catch (NumberFormatException e) {
+            // Not an integer
+        }
+        this.validInt = intOk;
+        this.intValue = parsedInt;
+
+        long parsedLong = 0L;
+        boolean longOk = false;
+        try {
+            parsedLong = Long.parseLong(trimmed);
+            longOk = true;
+        } catch (NumberFormatException e) {
+            // Not a long
+        }
+        this.validLong = longOk;
+        this.longValue = parsedLong;
+
+        double parsedDouble = 0.0;
+        boolean doubleOk = false;
+        try {
+            parsedDouble = Double.parseDouble(trimmed);
+            doubleOk = true;
+        } catch (NumberFormatException e) {
+            // Not a double
+        }
+        this.validDouble = doubleOk;
+        this.doubleValue = parsedDouble;
+    }
+}
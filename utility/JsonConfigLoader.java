@@ -2,10 +2,28 @@ import java.io.InputStream;
 import java.io.IOException;
 import java.io.File;
 import java.io.FileInputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 import java.util.logging.Level;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 
 /**
  * Thread-safe JSON configuration loader that supports loading from external
@@ -24,19 +42,47 @@ import com.fasterxml.jackson.databind.ObjectMapper;
  * String dbUrl = loader.getString("database.url");
  * int poolSize = loader.getInt("database.connection.pool.maxSize", 10);
  * JsonNode dbConfig = loader.getJsonNode("database");
+ * 
+ * // Bind a section to a typed object that follows reloads
+ * JsonConfigLoader.Binding&lt;PoolSettings&gt; pool =
+ *         loader.bind("database.connection.pool", PoolSettings.class);
+ * int maxSize = pool.get().getMaxSize();
  * </pre>
+ * 
+ * External files are watched in the background with a NIO
+ * {@link WatchService} (falling back to polling where file watching is not
+ * supported), so lookups never touch the file system.
+ * 
+ * External files at least {@code jsonconfig.lazyThresholdBytes} bytes long
+ * (disabled by default) are scanned once and only the sections that are
+ * actually looked up are parsed into trees.
  */
 public class JsonConfigLoader {
 
     private static final Logger logger = Logger.getLogger(JsonConfigLoader.class.getName());
     private static volatile JsonConfigLoader instance;
     private static final String DEFAULT_CONFIG_FILE = "config.json";
+    private static final String POLL_INTERVAL_PROPERTY = "jsonconfig.pollIntervalMs";
+    private static final long DEFAULT_POLL_INTERVAL_MS = 2000L;
+    private static final String LAZY_THRESHOLD_PROPERTY = "jsonconfig.lazyThresholdBytes";
 
     private final ObjectMapper objectMapper;
-    private volatile JsonNode configRoot;
+    // Current configuration, replaced as a whole on every load
+    private volatile Snapshot snapshot = new Snapshot(Collections.<String, JsonNode>emptyMap(), null);
     private volatile String configFilePath;
     private volatile long lastModified;
 
+    // Change listeners notified after each reload
+    private final ConfigChangeNotifier changeNotifier = new ConfigChangeNotifier("JsonConfigLoader-events");
+
+    // Typed bindings, refreshed on every publish
+    private final ConcurrentMap<String, Binding<?>> bindings = new ConcurrentHashMap<>();
+
+    // Background change detection for external files
+    private volatile Thread watcherThread;
+    private volatile WatchService watchService;
+    private volatile ScheduledExecutorService pollingExecutor;
+
     // Prevent direct instantiation
     private JsonConfigLoader() {
         this.objectMapper = new ObjectMapper();
@@ -44,11 +90,12 @@ public class JsonConfigLoader {
         loadConfiguration();
     }
 
-    // Constructor for external file path
-    private JsonConfigLoader(String externalFilePath) {
+    // Constructor for external file path; package-private so tests can watch their own file
+    JsonConfigLoader(String externalFilePath) {
         this.objectMapper = new ObjectMapper();
         this.configFilePath = externalFilePath;
         loadConfiguration();
+        startWatching();
     }
 
     /**
@@ -112,11 +159,11 @@ public class JsonConfigLoader {
 
             if (inputStream == null) {
                 logger.warning("JSON config file not found: " + DEFAULT_CONFIG_FILE + ", using empty configuration");
-                configRoot = objectMapper.createObjectNode();
+                publish(objectMapper.createObjectNode());
                 return;
             }
 
-            configRoot = objectMapper.readTree(inputStream);
+            publish(objectMapper.readTree(inputStream));
             lastModified = System.currentTimeMillis();
             logger.fine("Loaded JSON configuration from classpath: " + DEFAULT_CONFIG_FILE);
         }
@@ -130,7 +177,7 @@ public class JsonConfigLoader {
 
         if (!configFile.exists()) {
             logger.warning("External config file not found: " + configFilePath + ", using empty configuration");
-            configRoot = objectMapper.createObjectNode();
+            publish(objectMapper.createObjectNode());
             lastModified = 0;
             return;
         }
@@ -139,31 +186,246 @@ public class JsonConfigLoader {
             throw new IOException("Cannot read configuration file: " + configFilePath);
         }
 
+        long modified = configFile.lastModified();
+        long lazyThreshold = Long.getLong(LAZY_THRESHOLD_PROPERTY, -1L);
+        if (lazyThreshold >= 0 && configFile.length() >= lazyThreshold) {
+            LazyJsonConfig lazy = LazyJsonConfig.open(configFile, objectMapper);
+            publishLazy(lazy);
+            lastModified = modified;
+            logger.fine("Indexed " + lazy.getSectionCount() + " sections for lazy loading from: " + configFilePath);
+            return;
+        }
+
         try (FileInputStream inputStream = new FileInputStream(configFile)) {
-            configRoot = objectMapper.readTree(inputStream);
-            lastModified = configFile.lastModified();
+            publish(objectMapper.readTree(inputStream));
+            lastModified = modified;
             logger.fine("Loaded JSON configuration from external file: " + configFilePath);
         }
     }
 
     /**
-     * Checks if the external file has been modified and reloads if necessary.
+     * Publishes a newly loaded configuration tree together with its
+     * flattened dot-path index.
+     * 
+     * @param root the configuration root node
+     */
+    private void publish(JsonNode root) {
+        Map<String, JsonNode> index = new HashMap<>();
+        indexPaths(root, null, index);
+        swap(new Snapshot(Collections.unmodifiableMap(index), null));
+    }
+
+    /**
+     * Publishes a lazily materialized configuration. Sections are built on
+     * first lookup, except when change listeners are registered: computing
+     * their diffs needs every value, so all sections are materialized here.
+     * 
+     * @param lazy the lazy configuration
+     */
+    private void publishLazy(LazyJsonConfig lazy) {
+        if (changeNotifier.hasListeners()) {
+            lazy.materializeAll();
+        }
+        swap(new Snapshot(lazy.index(), lazy));
+    }
+
+    /**
+     * Swaps in a new configuration with a single volatile write, then
+     * refreshes bindings and notifies change listeners.
+     * 
+     * @param next the configuration to publish
+     */
+    private void swap(Snapshot next) {
+        Snapshot previous = snapshot;
+        snapshot = next;
+        for (Binding<?> binding : bindings.values()) {
+            binding.refresh();
+        }
+        if (changeNotifier.hasListeners()) {
+            // A previous lazy config was fully materialized when listeners were added
+            changeNotifier.fireChanges(leafValues(previous.index), leafValues(next.fullIndex()));
+        }
+    }
+
+    /**
+     * Gets the textual value of every leaf in the current configuration.
+     * Materializes all sections in lazy mode.
+     * 
+     * @return map of dot path to value text
+     */
+    Map<String, String> getLeafValues() {
+        return leafValues(snapshot.fullIndex());
+    }
+
+    /**
+     * Flattens a path index to the textual values of its leaves (scalars and
+     * arrays), as used for change events. A JSON null leaf is kept as a key
+     * mapped to null, so it stays distinguishable from a missing key.
+     * 
+     * @param index the path index
+     * @return map of dot path to value text
+     */
+    private static Map<String, String> leafValues(Map<String, JsonNode> index) {
+        Map<String, String> values = new HashMap<>();
+        for (Map.Entry<String, JsonNode> entry : index.entrySet()) {
+            JsonNode node = entry.getValue();
+            if (node.isValueNode()) {
+                values.put(entry.getKey(), node.isNull() ? null : node.asText());
+            } else if (node.isArray()) {
+                values.put(entry.getKey(), node.toString());
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Recursively records every object field reachable from a node under its
+     * dot-notation path. Field names containing a dot are not addressable
+     * with dot notation and are skipped.
+     * 
+     * @param node   the node to index
+     * @param prefix the dot path of the node, or null for the root
+     * @param index  the index to populate
+     */
+    static void indexPaths(JsonNode node, String prefix, Map<String, JsonNode> index) {
+        if (node == null || !node.isObject()) {
+            return;
+        }
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            String name = field.getKey();
+            if (name.isEmpty() || name.indexOf('.') >= 0) {
+                continue;
+            }
+            String path = prefix == null ? name : prefix + "." + name;
+            index.put(path, field.getValue());
+            indexPaths(field.getValue(), path, index);
+        }
+    }
+
+    /**
+     * Starts background change detection for the external configuration file.
+     * Uses a {@link WatchService} on the parent directory and falls back to
+     * polling the file's modification time if watching is unavailable.
+     */
+    private void startWatching() {
+        Path file = new File(configFilePath).getAbsoluteFile().toPath();
+        Path directory = file.getParent();
+        if (directory == null || !directory.toFile().isDirectory()) {
+            startPolling();
+            return;
+        }
+
+        try {
+            WatchService service = FileSystems.getDefault().newWatchService();
+            directory.register(service,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+            this.watchService = service;
+
+            Thread thread = new Thread(() -> watchLoop(service, file.getFileName()),
+                    "JsonConfigLoader-watcher");
+            thread.setDaemon(true);
+            thread.start();
+            this.watcherThread = thread;
+            logger.fine("Watching configuration file for changes: " + file);
+        } catch (IOException | UnsupportedOperationException e) {
+            logger.log(Level.WARNING, "File watching unavailable, falling back to polling", e);
+            startPolling();
+        }
+    }
+
+    /**
+     * Processes watch events until the watch service is closed.
+     * 
+     * @param service  the watch service
+     * @param fileName the configuration file name to react to
      */
-    private void checkAndReloadIfModified() {
-        if (configFilePath != null) {
-            File configFile = new File(configFilePath);
-            if (configFile.exists() && configFile.lastModified() > lastModified) {
-                synchronized (this) {
-                    if (configFile.lastModified() > lastModified) {
-                        try {
-                            loadFromExternalFile();
-                            logger.info("Configuration automatically reloaded due to file modification");
-                        } catch (IOException e) {
-                            logger.log(Level.WARNING, "Failed to reload modified configuration file", e);
-                        }
+    private void watchLoop(WatchService service, Path fileName) {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = service.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                            || fileName.equals(event.context())) {
+                        changed = true;
                     }
                 }
+                if (changed) {
+                    reloadIfModified();
+                }
+                if (!key.reset()) {
+                    logger.warning("Configuration directory no longer accessible, falling back to polling");
+                    startPolling();
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // Watching stopped
+        }
+    }
+
+    /**
+     * Starts polling the external file's modification time.
+     */
+    private void startPolling() {
+        long interval = Long.getLong(POLL_INTERVAL_PROPERTY, DEFAULT_POLL_INTERVAL_MS);
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "JsonConfigLoader-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::reloadIfModified, interval, interval, TimeUnit.MILLISECONDS);
+        this.pollingExecutor = executor;
+        logger.fine("Polling configuration file every " + interval + "ms: " + configFilePath);
+    }
+
+    /**
+     * Reloads the external file if its modification time has changed.
+     * Called from the background watcher, never from lookups.
+     */
+    private synchronized void reloadIfModified() {
+        File configFile = new File(configFilePath);
+        long modified = configFile.exists() ? configFile.lastModified() : 0L;
+        if (modified == lastModified) {
+            return;
+        }
+        try {
+            loadFromExternalFile();
+            logger.info("Configuration automatically reloaded due to file modification");
+        } catch (IOException | RuntimeException e) {
+            logger.log(Level.WARNING, "Failed to reload modified configuration file", e);
+        }
+    }
+
+    /**
+     * Stops background change detection. Lookups keep serving the last
+     * loaded configuration.
+     */
+    public void stopWatching() {
+        WatchService service = watchService;
+        if (service != null) {
+            try {
+                service.close();
+            } catch (IOException e) {
+                logger.log(Level.FINE, "Error closing watch service", e);
             }
+            watchService = null;
+        }
+        Thread thread = watcherThread;
+        if (thread != null) {
+            thread.interrupt();
+            watcherThread = null;
+        }
+        ScheduledExecutorService executor = pollingExecutor;
+        if (executor != null) {
+            executor.shutdownNow();
+            pollingExecutor = null;
         }
     }
 
@@ -190,9 +452,6 @@ public class JsonConfigLoader {
             throw new IllegalArgumentException("Configuration key cannot be null or empty");
         }
 
-        // Check if file has been modified and reload if necessary
-        checkAndReloadIfModified();
-
         // Get value from JSON configuration
         JsonNode node = getJsonNodeByPath(key);
         if (node != null && !node.isNull()) {
@@ -279,35 +538,94 @@ public class JsonConfigLoader {
             return null;
         }
 
-        // Check if file has been modified and reload if necessary
-        checkAndReloadIfModified();
-
         // Get JsonNode from configuration
         return getJsonNodeByPath(key);
     }
 
     /**
      * Gets a JsonNode by dot-notation path (e.g., "database.connection.pool").
+     * Resolved with a single probe of the path index built at load time, or
+     * by materializing the enclosing section in lazy mode.
      * 
      * @param path the dot-notation path
      * @return the JsonNode at the path, or null if not found
      */
     private JsonNode getJsonNodeByPath(String path) {
-        if (configRoot == null) {
-            return null;
+        Snapshot current = snapshot;
+        return current.lazy != null ? current.lazy.lookup(path) : current.index.get(path);
+    }
+
+    /**
+     * Binds a configuration section to a typed object.
+     * The section is converted once when bound and again after each reload,
+     * so {@link Binding#get()} is a plain field read. Binding the same path
+     * and type twice returns the same binding.
+     * 
+     * <p>
+     * Immutable targets need a {@code @JsonCreator} constructor (or a no-arg
+     * constructor Jackson can use); unknown JSON properties are ignored.
+     * 
+     * @param path the dot-notation path of the section to bind
+     * @param type the target type
+     * @param <T>  the target type
+     * @return the binding, whose value is null while the path is missing
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Binding<T> bind(String path, Class<T> type) {
+        if (path == null || path.trim().isEmpty()) {
+            throw new IllegalArgumentException("Configuration key cannot be null or empty");
+        }
+        if (type == null) {
+            throw new IllegalArgumentException("Binding type cannot be null");
         }
 
-        JsonNode current = configRoot;
-        String[] parts = path.split("\\.");
+        String bindingKey = path + "@" + type.getName();
+        Binding<?> existing = bindings.get(bindingKey);
+        if (existing != null) {
+            return (Binding<T>) existing;
+        }
 
-        for (String part : parts) {
-            if (current == null || !current.has(part)) {
-                return null;
+        synchronized (this) {
+            existing = bindings.get(bindingKey);
+            if (existing != null) {
+                return (Binding<T>) existing;
+            }
+            ObjectReader reader = objectMapper.readerFor(type)
+                    .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+            Binding<T> binding = new Binding<>(path, reader);
+            try {
+                binding.value = binding.convert(getJsonNodeByPath(path));
+            } catch (IOException e) {
+                throw new RuntimeException("Configuration binding failed for '" + path + "' to "
+                        + type.getName(), e);
             }
-            current = current.get(part);
+            bindings.put(bindingKey, binding);
+            return binding;
         }
+    }
+
+    /**
+     * Registers a listener for changes to keys equal to or nested under a
+     * prefix (e.g. "database.connection.pool"). The listener receives one
+     * batched event per reload that changed a matching leaf value, on a
+     * background event thread.
+     * 
+     * @param prefix   the dot-notation prefix, or empty for all keys
+     * @param listener the listener to notify
+     */
+    public void addChangeListener(String prefix, ConfigChangeListener listener) {
+        changeNotifier.addListener(prefix, listener);
+        // Diffs need every current value before the file changes
+        snapshot.fullIndex();
+    }
 
-        return current;
+    /**
+     * Removes a previously registered change listener.
+     * 
+     * @param listener the listener to remove
+     */
+    public void removeChangeListener(ConfigChangeListener listener) {
+        changeNotifier.removeListener(listener);
     }
 
     /**
@@ -321,9 +639,6 @@ public class JsonConfigLoader {
             return false;
         }
 
-        // Check if file has been modified and reload if necessary
-        checkAndReloadIfModified();
-
         // Check JSON configuration
         JsonNode node = getJsonNodeByPath(key);
         return node != null && !node.isNull();
@@ -360,6 +675,18 @@ public class JsonConfigLoader {
         return lastModified;
     }
 
+    /**
+     * Gets the location the configuration was loaded from, in the same
+     * classpath:/file: form {@link ConfigLoader.LoadTiming} uses.
+     * 
+     * @return the source location
+     */
+    String getSourceLocation() {
+        return configFilePath != null
+                ? "file:" + new File(configFilePath).getAbsolutePath()
+                : "classpath:" + DEFAULT_CONFIG_FILE;
+    }
+
     /**
      * Checks if the configuration is loaded from an external file.
      * 
@@ -368,4 +695,80 @@ public class JsonConfigLoader {
     public boolean isExternalFile() {
         return configFilePath != null;
     }
+
+    /**
+     * One published configuration: the path index and, in lazy mode, the
+     * configuration that materializes it on demand.
+     */
+    private static final class Snapshot {
+        final Map<String, JsonNode> index;
+        final LazyJsonConfig lazy;
+
+        Snapshot(Map<String, JsonNode> index, LazyJsonConfig lazy) {
+            this.index = index;
+            this.lazy = lazy;
+        }
+
+        /**
+         * @return the complete path index, materializing every section in lazy mode
+         */
+        Map<String, JsonNode> fullIndex() {
+            return lazy != null ? lazy.materializeAll() : index;
+        }
+    }
+
+    /**
+     * Live, typed view of a configuration section created by
+     * {@link JsonConfigLoader#bind(String, Class)}.
+     * 
+     * @param <T> the bound type
+     */
+    public final class Binding<T> {
+        private final String path;
+        private final ObjectReader reader;
+        private volatile T value;
+
+        private Binding(String path, ObjectReader reader) {
+            this.path = path;
+            this.reader = reader;
+        }
+
+        /**
+         * Gets the current bound value.
+         * 
+         * @return the bound object, or null if the path is missing
+         */
+        public T get() {
+            return value;
+        }
+
+        /**
+         * Gets the bound configuration path.
+         * 
+         * @return the dot-notation path
+         */
+        public String getPath() {
+            return path;
+        }
+
+        private T convert(JsonNode node) throws IOException {
+            if (node == null || node.isNull() || node.isMissingNode()) {
+                return null;
+            }
+            return reader.readValue(node);
+        }
+
+        /**
+         * Re-binds from the current configuration, keeping the previous value
+         * if the new section cannot be converted.
+         */
+        private void refresh() {
+            try {
+                value = convert(getJsonNodeByPath(path));
+            } catch (IOException | RuntimeException e) {
+                logger.log(Level.WARNING, "Failed to re-bind configuration section '" + path
+                        + "', keeping previous value", e);
+            }
+        }
+    }
 }
@@ -1,8 +1,12 @@
 import org.junit.Test;
 import org.junit.Before;
 import static org.junit.Assert.*;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 
 /**
  * JUnit 4 test class for JsonConfigLoader - Java 8 compatible.
@@ -93,6 +97,29 @@ public class JsonConfigLoaderTest {
         assertTrue("Pool config should have minSize", poolConfig.has("minSize"));
     }
 
+    @Test
+    public void testPathIndexLookups() {
+        assertNotNull("Intermediate path should resolve", loader.getJsonNode("database.connection"));
+        assertEquals("Deep path should resolve", "SELECT 1",
+                loader.getString("database.connection.pool.validationQuery"));
+        assertNull("Path below a leaf should not resolve",
+                loader.getJsonNode("database.connection.pool.maxSize.extra"));
+        assertNull("Partial segment should not resolve", loader.getJsonNode("database.conn"));
+    }
+
+    @Test
+    public void testBindSection() {
+        JsonConfigLoader.Binding<PoolSettings> binding = loader.bind("database.connection.pool", PoolSettings.class);
+        assertNotNull("Bound pool settings should not be null", binding.get());
+        assertEquals("Bound min size should be 5", 5, binding.get().minSize);
+        assertEquals("Bound max size should be 20", 20, binding.get().maxSize);
+        assertEquals("Bound timeout should be 30000", 30000L, binding.get().timeout);
+
+        assertSame("Binding the same section twice should reuse the binding",
+                binding, loader.bind("database.connection.pool", PoolSettings.class));
+        assertNull("Missing section should bind to null", loader.bind("non.existent", PoolSettings.class).get());
+    }
+
     @Test
     public void testReload() {
         try {
@@ -132,4 +159,52 @@ public class JsonConfigLoaderTest {
         assertFalse("Should not be external file", classpathLoader.isExternalFile());
         assertNull("Config file path should be null for classpath", classpathLoader.getConfigFilePath());
     }
+
+    @Test
+    public void testBackgroundReloadOnFileChange() throws IOException, InterruptedException {
+        File configFile = File.createTempFile("watched-config", ".json");
+        JsonConfigLoader watched = null;
+        try {
+            Files.write(configFile.toPath(),
+                    "{\"pool\": {\"maxSize\": 10}}".getBytes(StandardCharsets.UTF_8));
+            watched = new JsonConfigLoader(configFile.getPath());
+            assertEquals("Initial value should load", 10, watched.getInt("pool.maxSize", 0));
+
+            long loadedModified = watched.getLastModified();
+            Files.write(configFile.toPath(),
+                    "{\"pool\": {\"maxSize\": 25}}".getBytes(StandardCharsets.UTF_8));
+            // Coarse file system timestamps could otherwise hide the change
+            configFile.setLastModified(loadedModified + 2000);
+
+            long deadline = System.currentTimeMillis() + 30000;
+            while (watched.getInt("pool.maxSize", 0) != 25 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            assertEquals("Rewritten file should be reloaded in the background", 25,
+                    watched.getInt("pool.maxSize", 0));
+        } finally {
+            if (watched != null) {
+                watched.stopWatching();
+            }
+            configFile.delete();
+        }
+    }
+
+    /**
+     * Immutable target type for binding tests.
+     */
+    public static final class PoolSettings {
+        final int minSize;
+        final int maxSize;
+        final long timeout;
+
+        @JsonCreator
+        public PoolSettings(@JsonProperty("minSize") int minSize,
+                @JsonProperty("maxSize") int maxSize,
+                @JsonProperty("timeout") long timeout) {
+            this.minSize = minSize;
+            this.maxSize = maxSize;
+            this.timeout = timeout;
+        }
+    }
 }
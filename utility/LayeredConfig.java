@@ -0,0 +1,463 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Thread-safe singleton that overlays every configuration source into one
+ * precomputed lookup table.
+ * 
+ * Sources, highest precedence first:
+ * <ol>
+ * <li>{@code system} - JVM system properties ({@code -Dkey=value})</li>
+ * <li>{@code env} - environment variables, named by upper-casing the key and
+ * replacing dots and dashes with underscores
+ * ({@code database.connection.pool.maxSize} -&gt;
+ * {@code DATABASE_CONNECTION_POOL_MAXSIZE}); only keys defined by another
+ * source are overridden</li>
+ * <li>{@code json} - leaf values from {@link JsonConfigLoader}</li>
+ * <li>{@code properties} - values from {@link ConfigLoader}</li>
+ * </ol>
+ * 
+ * The table is compiled at load time and rebuilt whenever either loader
+ * reloads, so a lookup is a single hash probe regardless of the number of
+ * layers. {@link #getSource(String)} and {@link #describe(String)} report
+ * where a value came from.
+ * 
+ * When the {@code config.snapshotDir} system property names a directory, the
+ * file-backed layers are also persisted there as a binary snapshot (see
+ * {@link ConfigSnapshotStore}). If the snapshot's sources look unchanged on
+ * the next start, lookups are served from it immediately, while the loaders
+ * initialize and re-verify the sources on a background thread.
+ * 
+ * Usage example:
+ * 
+ * <pre>
+ * LayeredConfig config = LayeredConfig.getInstance();
+ * int maxSize = config.getInt("database.connection.pool.maxSize", 10);
+ * System.out.println(config.describe("database.connection.pool.maxSize"));
+ * </pre>
+ */
+public class LayeredConfig {
+
+    private static final Logger logger = Logger.getLogger(LayeredConfig.class.getName());
+
+    public static final String SOURCE_SYSTEM = "system";
+    public static final String SOURCE_ENV = "env";
+    public static final String SOURCE_JSON = "json";
+    public static final String SOURCE_PROPERTIES = "properties";
+
+    // Singleton instance
+    private static volatile LayeredConfig instance;
+
+    private final ConfigSnapshotStore snapshotStore;
+    private final CompletableFuture<Void> verified = new CompletableFuture<>();
+
+    // Underlying loaders, attached synchronously or after a snapshot start
+    private volatile ConfigLoader propertiesLoader;
+    private volatile JsonConfigLoader jsonLoader;
+    private volatile List<ConfigSnapshotStore.Fingerprint> sourceFingerprints = Collections.emptyList();
+
+    // Current compiled lookup table
+    private volatile Map<String, Resolved> table;
+    private volatile boolean fromSnapshot;
+
+    // Prevent instantiation
+    private LayeredConfig() {
+        this.snapshotStore = ConfigSnapshotStore.fromSystemProperty();
+        ConfigSnapshotStore.Snapshot snapshot = snapshotStore != null ? snapshotStore.loadIfFresh() : null;
+
+        if (snapshot == null) {
+            attachLoaders();
+            return;
+        }
+
+        this.sourceFingerprints = snapshot.sources;
+        this.table = overlay(snapshot.layers);
+        this.fromSnapshot = true;
+        logger.info("Serving " + table.size() + " configuration keys from snapshot: "
+                + snapshotStore.getSnapshotFile());
+
+        Thread verifier = new Thread(() -> {
+            try {
+                attachLoaders();
+            } catch (RuntimeException e) {
+                logger.log(Level.SEVERE, "Failed to verify configuration sources, still serving snapshot", e);
+                verified.completeExceptionally(e);
+            }
+        }, "LayeredConfig-verifier");
+        verifier.setDaemon(true);
+        verifier.start();
+    }
+
+    /**
+     * Creates a detached instance over fixed file-backed sources, without
+     * loaders or snapshots. Used by tests.
+     * 
+     * @param properties the properties layer
+     * @param jsonValues the json layer as leaf values
+     */
+    LayeredConfig(Properties properties, Map<String, String> jsonValues) {
+        this.snapshotStore = null;
+        this.table = overlay(fileLayers(properties, jsonValues));
+        verified.complete(null);
+    }
+
+    /**
+     * Gets the singleton instance, layered over the {@link ConfigLoader} and
+     * {@link JsonConfigLoader} singletons.
+     * 
+     * @return the singleton instance
+     */
+    public static LayeredConfig getInstance() {
+        if (instance == null) {
+            synchronized (LayeredConfig.class) {
+                if (instance == null) {
+                    instance = new LayeredConfig();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Initializes the underlying loaders, compiles the table from them and
+     * subscribes to their reloads.
+     */
+    private void attachLoaders() {
+        this.propertiesLoader = ConfigLoader.getInstance();
+        this.jsonLoader = JsonConfigLoader.getInstance();
+        recompile();
+        this.fromSnapshot = false;
+
+        // Recompile whenever an underlying source reloads
+        ConfigChangeListener recompile = event -> recompile();
+        propertiesLoader.addChangeListener("", recompile);
+        jsonLoader.addChangeListener("", recompile);
+        verified.complete(null);
+    }
+
+    /**
+     * Collects the file-backed layers (json over properties) for every key.
+     * 
+     * @return key to layers, highest precedence first
+     */
+    private Map<String, List<Layer>> fileLayers() {
+        return fileLayers(propertiesLoader.getProperties(), jsonLoader.getLeafValues());
+    }
+
+    private static Map<String, List<Layer>> fileLayers(Properties props, Map<String, String> jsonValues) {
+        Map<String, List<Layer>> layers = new HashMap<>();
+
+        // Lowest precedence first; each layer is prepended
+        for (String key : props.stringPropertyNames()) {
+            addLayer(layers, key, SOURCE_PROPERTIES, props.getProperty(key));
+        }
+        for (Map.Entry<String, String> entry : jsonValues.entrySet()) {
+            if (entry.getValue() != null) {
+                addLayer(layers, entry.getKey(), SOURCE_JSON, entry.getValue());
+            }
+        }
+        return layers;
+    }
+
+    /**
+     * Overlays environment variables and system properties on the
+     * file-backed layers and compiles the lookup table.
+     * 
+     * @param fileLayers key to file-backed layers; not modified
+     * @return the compiled table
+     */
+    private static Map<String, Resolved> overlay(Map<String, List<Layer>> fileLayers) {
+        long start = System.nanoTime();
+        Map<String, List<Layer>> layers = new HashMap<>(fileLayers.size() * 4 / 3 + 1);
+        for (Map.Entry<String, List<Layer>> entry : fileLayers.entrySet()) {
+            layers.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+        }
+
+        Map<String, String> env = System.getenv();
+        for (String key : new ArrayList<>(layers.keySet())) {
+            String value = env.get(toEnvName(key));
+            if (value != null) {
+                addLayer(layers, key, SOURCE_ENV, value);
+            }
+        }
+
+        Properties system = System.getProperties();
+        for (String key : system.stringPropertyNames()) {
+            addLayer(layers, key, SOURCE_SYSTEM, system.getProperty(key));
+        }
+
+        Map<String, Resolved> compiled = new HashMap<>(layers.size() * 4 / 3 + 1);
+        for (Map.Entry<String, List<Layer>> entry : layers.entrySet()) {
+            compiled.put(entry.getKey(), new Resolved(entry.getValue()));
+        }
+        logger.fine("Compiled " + compiled.size() + " layered configuration keys in "
+                + (System.nanoTime() - start) / 1000 + "us");
+        return Collections.unmodifiableMap(compiled);
+    }
+
+    private static void addLayer(Map<String, List<Layer>> layers, String key, String source, String value) {
+        List<Layer> keyLayers = layers.get(key);
+        if (keyLayers == null) {
+            keyLayers = new ArrayList<>(2);
+            layers.put(key, keyLayers);
+        }
+        keyLayers.add(0, new Layer(source, value));
+    }
+
+    /**
+     * Fingerprints the files the loaders actually read.
+     * 
+     * @return one fingerprint per resolved source
+     */
+    private List<ConfigSnapshotStore.Fingerprint> currentFingerprints() {
+        List<ConfigSnapshotStore.Fingerprint> fingerprints = new ArrayList<>();
+        for (ConfigLoader.LoadTiming timing : propertiesLoader.getLoadTimings()) {
+            if (timing.getLocation() != null) {
+                fingerprints.add(ConfigSnapshotStore.Fingerprint.of(timing.getLocation()));
+            }
+        }
+        fingerprints.add(ConfigSnapshotStore.Fingerprint.of(jsonLoader.getSourceLocation()));
+        return fingerprints;
+    }
+
+    /**
+     * Maps a dot-notation key to its environment variable name.
+     * 
+     * @param key the configuration key
+     * @return the environment variable name
+     */
+    static String toEnvName(String key) {
+        return key.toUpperCase(Locale.ROOT).replace('.', '_').replace('-', '_');
+    }
+
+    /**
+     * Rebuilds the lookup table from the current sources and refreshes the
+     * snapshot if any source changed since it was written.
+     */
+    public synchronized void recompile() {
+        if (propertiesLoader == null || jsonLoader == null) {
+            // Still serving a snapshot; the verifier compiles once attached
+            return;
+        }
+        Map<String, List<Layer>> fileLayers = fileLayers();
+        this.table = overlay(fileLayers);
+        logger.info("Layered configuration recompiled");
+
+        if (snapshotStore != null) {
+            List<ConfigSnapshotStore.Fingerprint> fingerprints = currentFingerprints();
+            if (!fingerprints.equals(sourceFingerprints) || !snapshotStore.getSnapshotFile().isFile()) {
+                snapshotStore.save(fingerprints, fileLayers);
+                this.sourceFingerprints = fingerprints;
+            }
+        }
+    }
+
+    /**
+     * Checks if lookups are still served from the persisted snapshot, i.e.
+     * the sources have not been re-verified yet.
+     * 
+     * @return true while serving the snapshot
+     */
+    public boolean isServingSnapshot() {
+        return fromSnapshot;
+    }
+
+    /**
+     * Gets a future completed once the underlying loaders have initialized
+     * and the table reflects the actual sources.
+     * 
+     * @return the verification future
+     */
+    public CompletableFuture<Void> getVerification() {
+        return verified;
+    }
+
+    private Resolved resolved(String key) {
+        if (key == null || key.trim().isEmpty()) {
+            throw new IllegalArgumentException("Configuration key cannot be null or empty");
+        }
+        return table.get(key);
+    }
+
+    /**
+     * Gets a value by key from the highest-precedence source defining it.
+     * 
+     * @param key the configuration key
+     * @return the value, or null if not found
+     */
+    public String get(String key) {
+        Resolved resolved = resolved(key);
+        return resolved != null ? resolved.value.raw : null;
+    }
+
+    /**
+     * Gets a value with a default fallback.
+     * 
+     * @param key          the configuration key
+     * @param defaultValue the default value if not found
+     * @return the value or default value
+     */
+    public String get(String key, String defaultValue) {
+        String value = get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Gets an integer value.
+     * 
+     * @param key          the configuration key
+     * @param defaultValue the default value if not found or invalid
+     * @return the integer value or default value
+     */
+    public int getInt(String key, int defaultValue) {
+        Resolved resolved = resolved(key);
+        if (resolved == null) {
+            return defaultValue;
+        }
+        if (!resolved.value.validInt) {
+            logger.warning("Invalid integer value for key '" + key + "': " + resolved.value.raw);
+            return defaultValue;
+        }
+        return resolved.value.intValue;
+    }
+
+    /**
+     * Gets a long value.
+     * 
+     * @param key          the configuration key
+     * @param defaultValue the default value if not found or invalid
+     * @return the long value or default value
+     */
+    public long getLong(String key, long defaultValue) {
+        Resolved resolved = resolved(key);
+        if (resolved == null) {
+            return defaultValue;
+        }
+        if (!resolved.value.validLong) {
+            logger.warning("Invalid long value for key '" + key + "': " + resolved.value.raw);
+            return defaultValue;
+        }
+        return resolved.value.longValue;
+    }
+
+    /**
+     * Gets a double value.
+     * 
+     * @param key          the configuration key
+     * @param defaultValue the default value if not found or invalid
+     * @return the double value or default value
+     */
+    public double getDouble(String key, double defaultValue) {
+        Resolved resolved = resolved(key);
+        if (resolved == null) {
+            return defaultValue;
+        }
+        if (!resolved.value.validDouble) {
+            logger.warning("Invalid double value for key '" + key + "': " + resolved.value.raw);
+            return defaultValue;
+        }
+        return resolved.value.doubleValue;
+    }
+
+    /**
+     * Gets a boolean value.
+     * 
+     * @param key          the configuration key
+     * @param defaultValue the default value if not found
+     * @return the boolean value or default value
+     */
+    public boolean getBoolean(String key, boolean defaultValue) {
+        Resolved resolved = resolved(key);
+        return resolved != null ? resolved.value.booleanValue : defaultValue;
+    }
+
+    /**
+     * Checks if any source defines a key.
+     * 
+     * @param key the configuration key
+     * @return true if the key exists, false otherwise
+     */
+    public boolean containsKey(String key) {
+        if (key == null || key.trim().isEmpty()) {
+            return false;
+        }
+        return table.containsKey(key);
+    }
+
+    /**
+     * Gets the source the effective value of a key came from.
+     * 
+     * @param key the configuration key
+     * @return one of the SOURCE_* names, or null if not found
+     */
+    public String getSource(String key) {
+        Resolved resolved = resolved(key);
+        return resolved != null ? resolved.layers.get(0).source : null;
+    }
+
+    /**
+     * Describes how a key was resolved, listing every source that defines it
+     * in precedence order. Intended for debugging.
+     * 
+     * @param key the configuration key
+     * @return a human-readable description
+     */
+    public String describe(String key) {
+        Resolved resolved = resolved(key);
+        if (resolved == null) {
+            return key + " is not defined (checked system, env as " + toEnvName(key) + ", json, properties)";
+        }
+        StringBuilder info = new StringBuilder();
+        info.append(key).append(" = ").append(resolved.value.raw).append("\n");
+        for (int i = 0; i < resolved.layers.size(); i++) {
+            Layer layer = resolved.layers.get(i);
+            info.append("  ").append(i == 0 ? "[effective] " : "[shadowed]  ")
+                    .append(layer.source).append(": ").append(layer.value).append("\n");
+        }
+        return info.toString();
+    }
+
+    /**
+     * Gets the number of keys in the compiled table.
+     * 
+     * @return the key count
+     */
+    public int size() {
+        return table.size();
+    }
+
+    /**
+     * One source's value for a key.
+     */
+    static final class Layer {
+        final String source;
+        final String value;
+
+        Layer(String source, String value) {
+            this.source = source;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Effective value of a key plus every layer that defines it, highest
+     * precedence first.
+     */
+    private static final class Resolved {
+        final ConfigValue value;
+        final List<Layer> layers;
+
+        Resolved(List<Layer> layers) {
+            this.layers = Collections.unmodifiableList(layers);
+            this.value = new ConfigValue(layers.get(0).value);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+import org.junit.After;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeNotNull;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * JUnit 4 test class for LayeredConfig source precedence - Java 8 compatible.
+ */
+public class LayeredConfigTest {
+
+    private static final String SYSTEM_KEY = "layeredconfigtest.override";
+
+    @After
+    public void tearDown() {
+        System.clearProperty(SYSTEM_KEY);
+    }
+
+    @Test
+    public void testJsonOverridesProperties() {
+        Properties properties = new Properties();
+        properties.setProperty("database.connection.pool.maxSize", "10");
+        properties.setProperty("database.url", "jdbc:properties");
+        Map<String, String> json = new HashMap<>();
+        json.put("database.connection.pool.maxSize", "20");
+
+        LayeredConfig config = new LayeredConfig(properties, json);
+        assertEquals("Json should win over properties", 20, config.getInt("database.connection.pool.maxSize", 0));
+        assertEquals("Source should be json", LayeredConfig.SOURCE_JSON,
+                config.getSource("database.connection.pool.maxSize"));
+        assertEquals("Properties-only key should resolve", "jdbc:properties", config.get("database.url"));
+        assertEquals("Source should be properties", LayeredConfig.SOURCE_PROPERTIES, config.getSource("database.url"));
+
+        String description = config.describe("database.connection.pool.maxSize");
+        assertTrue("Describe should show the effective json value", description.contains("[effective] json: 20"));
+        assertTrue("Describe should show the shadowed properties value",
+                description.contains("[shadowed]  properties: 10"));
+    }
+
+    @Test
+    public void testJsonNullDoesNotShadowProperties() {
+        Properties properties = new Properties();
+        properties.setProperty("cache.ttl", "60");
+        Map<String, String> json = new HashMap<>();
+        json.put("cache.ttl", null);
+
+        LayeredConfig config = new LayeredConfig(properties, json);
+        assertEquals("Null json leaf should fall back to properties", "60", config.get("cache.ttl"));
+        assertEquals("Source should be properties", LayeredConfig.SOURCE_PROPERTIES, config.getSource("cache.ttl"));
+    }
+
+    @Test
+    public void testSystemPropertyOverridesFiles() {
+        System.setProperty(SYSTEM_KEY, "system");
+        Properties properties = new Properties();
+        properties.setProperty(SYSTEM_KEY, "properties");
+        Map<String, String> json = new HashMap<>();
+        json.put(SYSTEM_KEY, "json");
+
+        LayeredConfig config = new LayeredConfig(properties, json);
+        assertEquals("System property should win", "system", config.get(SYSTEM_KEY));
+        assertEquals("Source should be system", LayeredConfig.SOURCE_SYSTEM, config.getSource(SYSTEM_KEY));
+    }
+
+    @Test
+    public void testEnvironmentOverridesOnlyDefinedKeys() {
+        String path = System.getenv("PATH");
+        assumeNotNull(path);
+
+        Properties properties = new Properties();
+        properties.setProperty("path", "from-properties");
+        LayeredConfig config = new LayeredConfig(properties, new HashMap<String, String>());
+        assertEquals("Environment should win over properties", path, config.get("path"));
+        assertEquals("Source should be env", LayeredConfig.SOURCE_ENV, config.getSource("path"));
+
+        LayeredConfig empty = new LayeredConfig(new Properties(), new HashMap<String, String>());
+        assertFalse("Environment alone should not define a key", empty.containsKey("path"));
+    }
+
+    @Test
+    public void testToEnvName() {
+        assertEquals("Dots and dashes should become underscores", "DATABASE_CONNECTION_POOL_MAX_SIZE",
+                LayeredConfig.toEnvName("database.connection.pool.max-size"));
+    }
+
+    @Test
+    public void testTypedLookups() {
+        Properties properties = new Properties();
+        properties.setProperty("pool.timeout", "30000");
+        properties.setProperty("pool.ratio", "0.75");
+        properties.setProperty("pool.enabled", "true");
+        properties.setProperty("pool.size", "not-a-number");
+
+        LayeredConfig config = new LayeredConfig(properties, new HashMap<String, String>());
+        assertEquals("Long should parse", 30000L, config.getLong("pool.timeout", 0L));
+        assertEquals("Double should parse", 0.75, config.getDouble("pool.ratio", 0.0), 0.0);
+        assertTrue("Boolean should parse", config.getBoolean("pool.enabled", false));
+        assertEquals("Invalid integer should fall back to the default", 7, config.getInt("pool.size", 7));
+        assertEquals("Missing key should fall back to the default", "fallback", config.get("pool.missing", "fallback"));
+        assertNull("Missing key should have no source", config.getSource("pool.missing"));
+    }
+}
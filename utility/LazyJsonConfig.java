@@ -0,0 +1,171 @@
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Lazily materialized view of a large JSON configuration file.
+ * 
+ * The file is read once into a private byte array and scanned with Jackson's
+ * streaming parser to record the byte range of each top-level section. A
+ * section's tree is only built, and its dot paths indexed, the first time a
+ * key inside it is looked up. Sections are parsed from that copy, never from
+ * the file, so rewriting the file in place cannot affect them. Used by {@link JsonConfigLoader} for files at or above the
+ * {@code jsonconfig.lazyThresholdBytes} size.
+ */
+final class LazyJsonConfig {
+
+    private static final Logger logger = Logger.getLogger(LazyJsonConfig.class.getName());
+
+    private final ObjectMapper objectMapper;
+    private final byte[] content;
+    private final Map<String, Section> sections;
+    private final ConcurrentMap<String, JsonNode> index = new ConcurrentHashMap<>();
+
+    private LazyJsonConfig(ObjectMapper objectMapper, byte[] content, Map<String, Section> sections) {
+        this.objectMapper = objectMapper;
+        this.content = content;
+        this.sections = sections;
+    }
+
+    /**
+     * Reads a file and indexes its top-level sections without building trees.
+     * 
+     * @param file         the JSON file, whose root must be an object
+     * @param objectMapper the mapper used to build section trees
+     * @return the lazy configuration
+     * @throws IOException if the file cannot be read or is not a JSON object
+     */
+    static LazyJsonConfig open(File file, ObjectMapper objectMapper) throws IOException {
+        byte[] content = Files.readAllBytes(file.toPath());
+
+        Map<String, Section> sections = new LinkedHashMap<>();
+        try (JsonParser parser = objectMapper.getFactory().createParser(content)) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                return new LazyJsonConfig(objectMapper, content, Collections.<String, Section>emptyMap());
+            }
+            if (token != JsonToken.START_OBJECT) {
+                throw new IOException("Lazy loading requires a JSON object at the root: " + file);
+            }
+
+            while ((token = parser.nextToken()) != JsonToken.END_OBJECT) {
+                if (token != JsonToken.FIELD_NAME) {
+                    throw new IOException("Unexpected token " + token + " in " + file);
+                }
+                String name = parser.getCurrentName();
+                parser.nextToken();
+                long valueStart = parser.getTokenLocation().getByteOffset();
+                // A section spans exactly its value, so the slice never includes
+                // the separating comma; scalars are read in full to find their end
+                parser.skipChildren();
+                parser.finishToken();
+                long valueEnd = parser.getCurrentLocation().getByteOffset();
+                if (!name.isEmpty() && name.indexOf('.') < 0) {
+                    sections.put(name, new Section(name, (int) valueStart, (int) valueEnd));
+                }
+            }
+        }
+        return new LazyJsonConfig(objectMapper, content, Collections.unmodifiableMap(sections));
+    }
+
+    /**
+     * Resolves a dot path, materializing its top-level section on first use.
+     * 
+     * @param path the dot-notation path
+     * @return the node, or null if not found
+     */
+    JsonNode lookup(String path) {
+        JsonNode node = index.get(path);
+        if (node != null) {
+            return node;
+        }
+        int dot = path.indexOf('.');
+        Section section = sections.get(dot < 0 ? path : path.substring(0, dot));
+        if (section == null || section.materialized) {
+            return null;
+        }
+        materialize(section);
+        return index.get(path);
+    }
+
+    /**
+     * Materializes every section, e.g. to compute change events.
+     * 
+     * @return the complete path index
+     */
+    Map<String, JsonNode> materializeAll() {
+        for (Section section : sections.values()) {
+            materialize(section);
+        }
+        return Collections.unmodifiableMap(index);
+    }
+
+    /**
+     * @return the live index of materialized paths
+     */
+    Map<String, JsonNode> index() {
+        return Collections.unmodifiableMap(index);
+    }
+
+    int getSectionCount() {
+        return sections.size();
+    }
+
+    int getMaterializedSectionCount() {
+        int count = 0;
+        for (Section section : sections.values()) {
+            if (section.materialized) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void materialize(Section section) {
+        if (section.materialized) {
+            return;
+        }
+        synchronized (section) {
+            if (section.materialized) {
+                return;
+            }
+            try {
+                JsonNode node = objectMapper.readTree(content, section.start, section.end - section.start);
+                index.put(section.name, node);
+                JsonConfigLoader.indexPaths(node, section.name, index);
+                section.materialized = true;
+                logger.fine("Materialized configuration section: " + section.name);
+            } catch (IOException e) {
+                // The section stays unmaterialized, so the next lookup tries again
+                logger.log(Level.WARNING, "Failed to materialize configuration section '" + section.name + "'", e);
+            }
+        }
+    }
+
+    /**
+     * Byte range of one top-level section within the file content.
+     */
+    private static final class Section {
+        final String name;
+        final int start;
+        final int end;
+        volatile boolean materialized;
+
+        Section(String name, int start, int end) {
+            this.name = name;
+            this.start = start;
+            this.end = end;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JUnit 4 test class for the lazy loading mode of JsonConfigLoader - Java 8 compatible.
+ */
+public class LazyJsonConfigTest {
+
+    private static final String CONFIG = "{\n"
+            + "  \"version\": 2,\n"
+            + "  \"name\" : \"lazy\" ,\n"
+            + "  \"enabled\": true,\n"
+            + "  \"db\": {\"url\": \"jdbc:test\", \"pool\": {\"maxSize\": 20}},\n"
+            + "  \"hosts\": [\"a\", \"b\"],\n"
+            + "  \"ratio\": 1.5\n"
+            + "}\n";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private File configFile;
+
+    @Before
+    public void setUp() throws IOException {
+        configFile = File.createTempFile("lazy-config", ".json");
+        Files.write(configFile.toPath(), CONFIG.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @After
+    public void tearDown() {
+        configFile.delete();
+    }
+
+    @Test
+    public void testScalarSections() throws IOException {
+        LazyJsonConfig lazy = LazyJsonConfig.open(configFile, objectMapper);
+        assertEquals("Section count should match top-level fields", 6, lazy.getSectionCount());
+
+        assertEquals("Number before a comma should resolve", 2, lazy.lookup("version").asInt());
+        assertEquals("String followed by spaces should resolve", "lazy", lazy.lookup("name").asText());
+        assertTrue("Boolean should resolve", lazy.lookup("enabled").asBoolean());
+        assertEquals("Only the looked-up sections should be materialized", 3, lazy.getMaterializedSectionCount());
+    }
+
+    @Test
+    public void testObjectSection() throws IOException {
+        LazyJsonConfig lazy = LazyJsonConfig.open(configFile, objectMapper);
+        assertEquals("Nested path should resolve", 20, lazy.lookup("db.pool.maxSize").asInt());
+        assertEquals("Sibling path should resolve", "jdbc:test", lazy.lookup("db.url").asText());
+        assertTrue("Section root should be an object", lazy.lookup("db").isObject());
+        assertNull("Missing path inside a section should not resolve", lazy.lookup("db.missing"));
+        assertEquals("Only the db section should be materialized", 1, lazy.getMaterializedSectionCount());
+    }
+
+    @Test
+    public void testArraySection() throws IOException {
+        LazyJsonConfig lazy = LazyJsonConfig.open(configFile, objectMapper);
+        JsonNode hosts = lazy.lookup("hosts");
+        assertNotNull("Array section should resolve", hosts);
+        assertTrue("Array section should be an array", hosts.isArray());
+        assertEquals("Array should keep its elements", 2, hosts.size());
+    }
+
+    @Test
+    public void testLastSection() throws IOException {
+        LazyJsonConfig lazy = LazyJsonConfig.open(configFile, objectMapper);
+        assertEquals("Last section should resolve", 1.5, lazy.lookup("ratio").asDouble(), 0.0);
+        assertNull("Unknown section should not resolve", lazy.lookup("missing"));
+    }
+
+    @Test
+    public void testMaterializeAllMatchesEagerIndex() throws IOException {
+        Map<String, JsonNode> eager = new HashMap<>();
+        JsonConfigLoader.indexPaths(objectMapper.readTree(CONFIG), null, eager);
+
+        LazyJsonConfig lazy = LazyJsonConfig.open(configFile, objectMapper);
+        assertEquals("Lazy index should equal the eager index", eager, new HashMap<>(lazy.materializeAll()));
+        assertEquals("All sections should be materialized", lazy.getSectionCount(),
+                lazy.getMaterializedSectionCount());
+    }
+
+    @Test
+    public void testRewrittenFileDoesNotAffectSections() throws IOException {
+        LazyJsonConfig lazy = LazyJsonConfig.open(configFile, objectMapper);
+        assertEquals("Section read before the rewrite should resolve", "lazy", lazy.lookup("name").asText());
+
+        // Rewrite the file in place with shorter, different content
+        Files.write(configFile.toPath(), "{\"version\": 9}".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals("Unmaterialized section should keep its loaded value", 2, lazy.lookup("version").asInt());
+        assertEquals("Section past the new end of file should resolve", 1.5, lazy.lookup("ratio").asDouble(), 0.0);
+        assertEquals("Nested section should resolve", "jdbc:test", lazy.lookup("db.url").asText());
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.config.benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Lookup and load benchmarks for {@code ConfigLoader}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigLoaderBenchmark {
+
+    private static final String LOADER = "ConfigLoader";
+
+    private static final MethodHandle GET_INSTANCE = LoaderHandles.staticMethod(LOADER, "getInstance");
+    private static final MethodHandle NEW_LOADER = LoaderHandles.constructor(LOADER);
+    private static final MethodHandle GET = LoaderHandles.instanceMethod(LOADER, "get", String.class, String.class);
+    private static final MethodHandle GET_INT = LoaderHandles.instanceMethod(LOADER, "getInt", int.class,
+            String.class, int.class);
+    private static final MethodHandle RELOAD = LoaderHandles.instanceMethod(LOADER, "reload", void.class);
+
+    private Object loader;
+
+    @Setup
+    public void setUp() throws Throwable {
+        loader = (Object) GET_INSTANCE.invokeExact();
+    }
+
+    @Benchmark
+    public String get() throws Throwable {
+        return (String) GET.invokeExact(loader, "db.url");
+    }
+
+    @Benchmark
+    public int getInt() throws Throwable {
+        return (int) GET_INT.invokeExact(loader, "db.pool.max", 10);
+    }
+
+    @Benchmark
+    public int getIntMissing() throws Throwable {
+        return (int) GET_INT.invokeExact(loader, "db.pool.missing", 10);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String getContended() throws Throwable {
+        return (String) GET.invokeExact(loader, "db.url");
+    }
+
+    @Benchmark
+    @Threads(8)
+    public int getIntContended() throws Throwable {
+        return (int) GET_INT.invokeExact(loader, "db.pool.max", 10);
+    }
+
+    @Benchmark
+    @Group("lookupDuringReload")
+    @GroupThreads(3)
+    public int lookupDuringReload() throws Throwable {
+        return (int) GET_INT.invokeExact(loader, "db.pool.max", 10);
+    }
+
+    @Benchmark
+    @Group("lookupDuringReload")
+    @GroupThreads(1)
+    public void reloadDuringLookup() throws Throwable {
+        RELOAD.invokeExact(loader);
+    }
+
+    /**
+     * Cold first load: probing, parsing and snapshot construction.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 20)
+    @Fork(5)
+    public Object coldLoad() throws Throwable {
+        return (Object) NEW_LOADER.invokeExact();
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.config.benchmarks;
+
+import java.io.File;
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Lookup and load benchmarks for {@code JsonConfigLoader}.
+ * 
+ * The configuration file defaults to {@code ../config.json} and can be
+ * changed with {@code -Dbench.config=/path/to/config.json}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonConfigLoaderBenchmark {
+
+    private static final String LOADER = "JsonConfigLoader";
+
+    private static final MethodHandle GET_INSTANCE = LoaderHandles.staticMethod(LOADER, "getInstance", String.class);
+    private static final MethodHandle NEW_LOADER = LoaderHandles.constructor(LOADER, String.class);
+    private static final MethodHandle GET_STRING = LoaderHandles.instanceMethod(LOADER, "getString", String.class,
+            String.class);
+    private static final MethodHandle GET_INT = LoaderHandles.instanceMethod(LOADER, "getInt", int.class,
+            String.class, int.class);
+    private static final MethodHandle GET_JSON_NODE = LoaderHandles.instanceMethod(LOADER, "getJsonNode",
+            JsonNode.class, String.class);
+    private static final MethodHandle RELOAD = LoaderHandles.instanceMethod(LOADER, "reload", void.class);
+    private static final MethodHandle STOP_WATCHING = LoaderHandles.instanceMethod(LOADER, "stopWatching", void.class);
+
+    private String configPath;
+    private Object loader;
+
+    @Setup
+    public void setUp() throws Throwable {
+        configPath = new File(System.getProperty("bench.config", "../config.json")).getAbsolutePath();
+        loader = (Object) GET_INSTANCE.invokeExact(configPath);
+    }
+
+    @Benchmark
+    public String getStringShallow() throws Throwable {
+        return (String) GET_STRING.invokeExact(loader, "cache.enabled");
+    }
+
+    @Benchmark
+    public String getStringDeep() throws Throwable {
+        return (String) GET_STRING.invokeExact(loader, "database.connection.pool.maxSize");
+    }
+
+    @Benchmark
+    public String getStringMissing() throws Throwable {
+        return (String) GET_STRING.invokeExact(loader, "database.connection.pool.missing");
+    }
+
+    @Benchmark
+    public int getIntDeep() throws Throwable {
+        return (int) GET_INT.invokeExact(loader, "database.connection.pool.maxSize", 10);
+    }
+
+    @Benchmark
+    public JsonNode getJsonNodeShallow() throws Throwable {
+        return (JsonNode) GET_JSON_NODE.invokeExact(loader, "database");
+    }
+
+    @Benchmark
+    public JsonNode getJsonNodeDeep() throws Throwable {
+        return (JsonNode) GET_JSON_NODE.invokeExact(loader, "database.connection.pool");
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String getStringDeepContended() throws Throwable {
+        return (String) GET_STRING.invokeExact(loader, "database.connection.pool.maxSize");
+    }
+
+    @Benchmark
+    @Threads(8)
+    public JsonNode getJsonNodeDeepContended() throws Throwable {
+        return (JsonNode) GET_JSON_NODE.invokeExact(loader, "database.connection.pool");
+    }
+
+    @Benchmark
+    @Group("lookupDuringReload")
+    @GroupThreads(3)
+    public String lookupDuringReload() throws Throwable {
+        return (String) GET_STRING.invokeExact(loader, "database.connection.pool.maxSize");
+    }
+
+    @Benchmark
+    @Group("lookupDuringReload")
+    @GroupThreads(1)
+    public void reloadDuringLookup() throws Throwable {
+        RELOAD.invokeExact(loader);
+    }
+
+    /**
+     * Cold first load: file read, Jackson parse and path indexing.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 20)
+    @Fork(5)
+    public Object coldLoad() throws Throwable {
+        Object fresh = (Object) NEW_LOADER.invokeExact(configPath);
+        STOP_WATCHING.invokeExact(fresh);
+        return fresh;
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.config.benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+
+/**
+ * Method handles onto the configuration loaders.
+ * 
+ * JMH requires benchmarks to live in a named package, while the loaders are
+ * in the default package and cannot be imported. Handles stored in
+ * {@code static final} fields are constant-folded and inlined by the JIT, so
+ * calling through them adds no measurable overhead to the benchmarked call.
+ */
+final class LoaderHandles {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private LoaderHandles() {
+    }
+
+    /**
+     * Finds a loader class by name.
+     * 
+     * @param className the simple class name
+     * @return the class
+     */
+    static Class<?> loaderClass(String className) {
+        try {
+            return Class.forName(className);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Loader class not on classpath: " + className, e);
+        }
+    }
+
+    /**
+     * Finds a public instance method, typed with the receiver as Object.
+     * 
+     * @param className  the loader class name
+     * @param name       the method name
+     * @param returnType the method return type
+     * @param params     the method parameter types
+     * @return the handle of type (Object, params...)returnType
+     */
+    static MethodHandle instanceMethod(String className, String name, Class<?> returnType, Class<?>... params) {
+        try {
+            Class<?> owner = loaderClass(className);
+            MethodHandle handle = LOOKUP.findVirtual(owner, name, MethodType.methodType(returnType, params));
+            return handle.asType(handle.type().changeParameterType(0, Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot resolve " + className + "." + name, e);
+        }
+    }
+
+    /**
+     * Finds a public static method, typed to return Object.
+     * 
+     * @param className the loader class name
+     * @param name      the method name
+     * @param params    the method parameter types
+     * @return the handle of type (params...)Object
+     */
+    static MethodHandle staticMethod(String className, String name, Class<?>... params) {
+        try {
+            Class<?> owner = loaderClass(className);
+            MethodHandle handle = LOOKUP.findStatic(owner, name, MethodType.methodType(owner, params));
+            return handle.asType(handle.type().changeReturnType(Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot resolve " + className + "." + name, e);
+        }
+    }
+
+    /**
+     * Opens a private constructor so benchmarks can measure a cold load
+     * without going through the singleton.
+     * 
+     * @param className the loader class name
+     * @param params    the constructor parameter types
+     * @return the handle of type (params...)Object
+     */
+    static MethodHandle constructor(String className, Class<?>... params) {
+        try {
+            Constructor<?> constructor = loaderClass(className).getDeclaredConstructor(params);
+            constructor.setAccessible(true);
+            MethodHandle handle = LOOKUP.unreflectConstructor(constructor);
+            return handle.asType(handle.type().changeReturnType(Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot open constructor of " + className, e);
+        }
+    }
+}